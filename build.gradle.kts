@@ -12,6 +12,7 @@ plugins {
     id("com.hayden.git")
     id("com.hayden.mcp")
     id("com.hayden.java-conventions")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 description = "utilitymodule"
@@ -35,3 +36,12 @@ dependencies {
 //    testAnnotationProcessor(project(":inject_fields"))
 //    api(project(":inject_fields"))
 }
+
+jmh {
+    includeTests.set(false)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
@@ -0,0 +1,48 @@
+package com.hayden.utilitymodule.result;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Result#ok(Object)} map and flatMapResult chains against the same chain through {@link Optional}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultBenchmark {
+
+    int value = 42;
+
+    @Benchmark
+    public void optionalChain(Blackhole bh) {
+        bh.consume(Optional.of(value)
+                .map(i -> i + 1)
+                .flatMap(i -> Optional.of(i * 2))
+                .map(String::valueOf)
+                .orElse(null));
+    }
+
+    @Benchmark
+    public void resultChain(Blackhole bh) {
+        bh.consume(Result.<Integer, String>ok(value)
+                .map(i -> i + 1)
+                .flatMapResult(i -> Result.ok(i * 2))
+                .map(String::valueOf)
+                .one()
+                .orElseRes(null));
+    }
+
+    @Benchmark
+    public void resultErrChain(Blackhole bh) {
+        bh.consume(Result.<Integer, String>err("failed")
+                .map(i -> i + 1)
+                .flatMapResult(i -> Result.ok(i * 2))
+                .map(String::valueOf)
+                .one()
+                .orElseRes(null));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.hayden.utilitymodule.result.async;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping and draining {@link FluxResult} and {@link MonoResult} against the same pipeline on the bare
+ * {@link Flux} and {@link Mono}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AsyncResultBenchmark {
+
+    @Param({"10", "10000"})
+    int size;
+
+    @Benchmark
+    public void flux(Blackhole bh) {
+        bh.consume(Flux.range(0, size)
+                .map(i -> i + 1)
+                .collectList()
+                .block());
+    }
+
+    @Benchmark
+    public void fluxResult(Blackhole bh) {
+        bh.consume(new FluxResult<>(Flux.range(0, size))
+                .map(i -> i + 1)
+                .flux()
+                .collectList()
+                .block());
+    }
+
+    @Benchmark
+    public void fluxResultStream(Blackhole bh) {
+        bh.consume(new FluxResult<>(Flux.range(0, size))
+                .map(i -> i + 1)
+                .stream()
+                .toList());
+    }
+
+    @Benchmark
+    public void mono(Blackhole bh) {
+        bh.consume(Mono.just(size)
+                .map(i -> i + 1)
+                .block());
+    }
+
+    @Benchmark
+    public void monoResult(Blackhole bh) {
+        bh.consume(new MonoResult<>(Mono.just(size))
+                .map(i -> i + 1)
+                .get());
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.hayden.utilitymodule.result.map;
+
+import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.agg.Agg;
+import com.hayden.utilitymodule.result.agg.AggregateError;
+import com.hayden.utilitymodule.result.agg.Responses;
+import com.hayden.utilitymodule.result.error.SingleError;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Aggregating results where every tenth holds an error, through {@link Result#all(java.util.Collection)} and
+ * through {@link AggregateResultCollectors.AggregateResultCollector}, sequentially and in parallel. {@link Result#all(java.util.Collection)}
+ * adds into the first result, so its inputs are rebuilt for each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AggregateResultBenchmark {
+
+    public record BenchRes(Set<Integer> values) implements Responses.AggregateResponse {
+
+        @Override
+        public void addAgg(Agg aggregateResponse) {
+            this.values.addAll(((BenchRes) aggregateResponse).values());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Inputs {
+
+        @Param({"10", "10000", "1000000"})
+        int size;
+
+        List<Result<BenchRes, AggregateError.StandardAggregateError>> results;
+
+        @Setup
+        public void setUp() {
+            results = results(size);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FreshInputs {
+
+        @Param({"10", "10000", "1000000"})
+        int size;
+
+        List<Result<BenchRes, AggregateError.StandardAggregateError>> results;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            results = results(size);
+        }
+    }
+
+    static List<Result<BenchRes, AggregateError.StandardAggregateError>> results(int size) {
+        return IntStream.range(0, size)
+                .<Result<BenchRes, AggregateError.StandardAggregateError>>mapToObj(i -> i % 10 == 0
+                        ? Result.from(new BenchRes(new HashSet<>(Set.of(i))), new AggregateError.StandardAggregateError(SingleError.fromMessage("err-" + i)))
+                        : Result.ok(new BenchRes(new HashSet<>(Set.of(i)))))
+                .toList();
+    }
+
+    @Benchmark
+    public void resultAll(FreshInputs inputs, Blackhole bh) {
+        bh.consume(Result.all(inputs.results));
+    }
+
+    @Benchmark
+    public void resultAllParallel(FreshInputs inputs, Blackhole bh) {
+        bh.consume(Result.allParallel(inputs.results));
+    }
+
+    @Benchmark
+    public void aggregateResultCollector(Inputs inputs, Blackhole bh) {
+        bh.consume(inputs.results.stream()
+                .collect(ResultCollectors.toResult(
+                        () -> new BenchRes(new HashSet<>()),
+                        () -> new AggregateError.StandardAggregateError(new HashSet<>()))));
+    }
+
+    @Benchmark
+    public void parallelAggregateResultCollector(Inputs inputs, Blackhole bh) {
+        bh.consume(inputs.results.parallelStream()
+                .collect(AggregateResultCollectors.AggregateResultCollector.toResult(
+                        () -> new BenchRes(new HashSet<>()),
+                        () -> new AggregateError.StandardAggregateError(new HashSet<>()))));
+    }
+
+}
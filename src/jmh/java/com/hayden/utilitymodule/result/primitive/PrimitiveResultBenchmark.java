@@ -0,0 +1,54 @@
+package com.hayden.utilitymodule.result.primitive;
+
+import com.hayden.utilitymodule.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IntResult} map chains against the same chain through {@link Result#ok(Object)}, which boxes each step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimitiveResultBenchmark {
+
+    int value = 42;
+
+    @Benchmark
+    public int boxedMapChain() {
+        return Result.<Integer, String>ok(value)
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .flatMapResult(i -> Result.ok(i - 3))
+                .one()
+                .orElseRes(0);
+    }
+
+    @Benchmark
+    public int intMapChain() {
+        return IntResult.<String>ok(value)
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .flatMap(i -> IntResult.ok(i - 3))
+                .orElse(0);
+    }
+
+    @Benchmark
+    public double doubleMapChain() {
+        return DoubleResult.<String>ok(value)
+                .map(d -> d + 1)
+                .map(d -> d * 2)
+                .flatMap(d -> DoubleResult.ok(d - 3))
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int intErrorChain() {
+        return IntResult.<String>err("error")
+                .map(i -> i + 1)
+                .mapError(String::length)
+                .orElse(0);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.hayden.utilitymodule.result.res_many;
+
+import com.hayden.utilitymodule.result.res_support.many.stream.CacheMode;
+import com.hayden.utilitymodule.result.res_support.many.stream.StreamResultOptions;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Collecting a {@link StreamResultItem} under each {@link CacheMode}, including infinite streams retained in
+ * a window of {@link CacheMode#INFINITE_MAX_SIZE}, against a plain {@link java.util.stream.Stream}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamResultItemBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    int size;
+
+    @Param({"STANDARD", "PARALLEL", "ASYNC", "INFINITE"})
+    CacheMode mode;
+
+    List<Integer> values;
+
+    StreamResultOptions options;
+
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, size).boxed().toList();
+        options = mode.options();
+    }
+
+    @Benchmark
+    public void plainStream(Blackhole bh) {
+        var stream = options.isParallel() ? values.parallelStream() : values.stream();
+        bh.consume(stream.toList());
+    }
+
+    @Benchmark
+    public void streamResultItem(Blackhole bh) {
+        bh.consume(new StreamResultItem<>(values.stream(), options).toList());
+    }
+
+}
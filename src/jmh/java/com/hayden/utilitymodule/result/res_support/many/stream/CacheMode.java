@@ -0,0 +1,21 @@
+package com.hayden.utilitymodule.result.res_support.many.stream;
+
+/**
+ * {@link StreamResultOptions} variants benchmarked against each other, selected by name from a {@code @Param}.
+ */
+public enum CacheMode {
+
+    STANDARD, PARALLEL, ASYNC, INFINITE;
+
+    public static final int INFINITE_MAX_SIZE = 1024;
+
+    public StreamResultOptions options() {
+        return switch (this) {
+            case STANDARD -> StreamResultOptions.builder().build();
+            case PARALLEL -> StreamResultOptions.builder().isParallel(true).build();
+            case ASYNC -> StreamResultOptions.builder().isAsync(true).build();
+            case INFINITE -> StreamResultOptions.builder().isInfinite(true).maxSize(INFINITE_MAX_SIZE).build();
+        };
+    }
+
+}
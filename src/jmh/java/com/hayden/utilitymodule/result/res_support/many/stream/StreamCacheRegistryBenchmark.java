@@ -0,0 +1,50 @@
+package com.hayden.utilitymodule.result.res_support.many.stream;
+
+import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.res_support.many.stream.stream_cache.CachingOperations;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Per-{@link StreamResult} overhead of resolving the cache operations: the reflective sealed-hierarchy
+ * walk ({@link StreamCacheRegistry#computeOperations}) against the shared registry lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StreamCacheRegistryBenchmark {
+
+    @Param({"1", "10", "10000"})
+    int size;
+
+    List<Result<Integer, String>> results;
+
+    @Setup
+    public void setUp() {
+        results = IntStream.range(0, size)
+                .<Result<Integer, String>>mapToObj(Result::ok)
+                .toList();
+    }
+
+    @Benchmark
+    public void reflectiveOperations(Blackhole bh) {
+        bh.consume(StreamCacheRegistry.computeOperations(CachingOperations.ResultStreamCacheOperation.class));
+        bh.consume(StreamCacheRegistry.computeOperations(CachingOperations.ResultTyStreamWrapperOperation.class));
+    }
+
+    @Benchmark
+    public void registryOperations(Blackhole bh) {
+        bh.consume(StreamCacheRegistry.operations(CachingOperations.ResultStreamCacheOperation.class));
+        bh.consume(StreamCacheRegistry.operations(CachingOperations.ResultTyStreamWrapperOperation.class));
+    }
+
+    @Benchmark
+    public void streamResultToList(Blackhole bh) {
+        bh.consume(new StreamResult<>(results.stream()).toList());
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.hayden.utilitymodule.result.res_support.many.stream;
+
+import com.hayden.utilitymodule.result.Result;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Collecting a {@link StreamResult} through its cache against collecting the same elements from a plain
+ * {@link java.util.stream.Stream}. Infinite streams are not supported by {@link StreamResult}, see
+ * {@link com.hayden.utilitymodule.result.res_many.StreamResultItemBenchmark} for that mode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamResultBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    int size;
+
+    @Param({"STANDARD", "PARALLEL", "ASYNC"})
+    CacheMode mode;
+
+    List<Result<Integer, String>> results;
+
+    StreamResultOptions options;
+
+    @Setup
+    public void setUp() {
+        results = IntStream.range(0, size)
+                .<Result<Integer, String>>mapToObj(i -> i % 10 == 0 ? Result.err("err-" + i) : Result.ok(i))
+                .toList();
+        options = mode.options();
+    }
+
+    @Benchmark
+    public void plainStream(Blackhole bh) {
+        var stream = options.isParallel() ? results.parallelStream() : results.stream();
+        bh.consume(stream.toList());
+    }
+
+    @Benchmark
+    public void streamResult(Blackhole bh) {
+        bh.consume(new StreamResult<>(results.stream(), options).toList());
+    }
+
+}
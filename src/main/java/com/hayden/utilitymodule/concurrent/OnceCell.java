@@ -1,20 +1,148 @@
 package com.hayden.utilitymodule.concurrent;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.util.Assert;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
-@RequiredArgsConstructor
+/**
+ * A value computed on first {@link #get()}, with the supplier run at most once however many threads race for it.
+ * Once set, reads are a single volatile read. Callers arriving while it is computed wait on a lock rather than
+ * a monitor, so virtual threads are not pinned. A supplier that throws leaves the cell empty for the next caller.
+ * <p>
+ * An {@link #expiring} cell computes the value again once it is older than its time to live, and any cell can be
+ * emptied with {@link #reset()}.
+ */
 public class OnceCell<T> {
 
-    AtomicReference<T> t = new AtomicReference<>();
+    /**
+     * @param loadedAt {@link System#nanoTime()} when the value was computed.
+     */
+    private record Entry<T>(T value, long loadedAt) {}
 
     private final Supplier<T> supplier;
 
+    /**
+     * Zero for a value that does not expire.
+     */
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Entry<T> entry;
+
+    public OnceCell(Supplier<T> supplier) {
+        this(supplier, 0);
+    }
+
+    private OnceCell(Supplier<T> supplier, long ttlNanos) {
+        this.supplier = supplier;
+        this.ttlNanos = ttlNanos;
+    }
+
+    public static <T> OnceCell<T> expiring(Supplier<T> supplier, Duration ttl) {
+        Assert.isTrue(ttl.isPositive(), "Time to live must be positive.");
+        return new OnceCell<>(supplier, ttl.toNanos());
+    }
+
+    public static <T> Async<T> async(Supplier<CompletableFuture<T>> supplier) {
+        return new Async<>(supplier);
+    }
+
     public T get() {
-        t.compareAndSet(null, supplier.get());
-        return t.get();
+        var e = entry;
+        if (isLive(e))
+            return e.value();
+
+        lock.lock();
+        try {
+            e = entry;
+            if (isLive(e))
+                return e.value();
+
+            var value = supplier.get();
+            entry = new Entry<>(value, System.nanoTime());
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the value if it has been computed and has not expired, without computing it.
+     */
+    public Optional<T> getIfPresent() {
+        var e = entry;
+        return isLive(e) ? Optional.ofNullable(e.value()) : Optional.empty();
+    }
+
+    public boolean isInitialized() {
+        return isLive(entry);
+    }
+
+    /**
+     * Empties the cell, so the next {@link #get()} computes the value again.
+     */
+    public void reset() {
+        entry = null;
+    }
+
+    private boolean isLive(Entry<T> e) {
+        return e != null && (ttlNanos == 0 || System.nanoTime() - e.loadedAt() < ttlNanos);
+    }
+
+    /**
+     * Starts the supplier once and hands every caller a copy of the same future, without any caller waiting for it.
+     * A caller cancelling or completing its copy does not affect the cell or the other callers. A future that fails
+     * or is cancelled by the supplier is dropped, so the next {@link #get()} starts the supplier again.
+     */
+    public static final class Async<T> {
+
+        private final Supplier<CompletableFuture<T>> supplier;
+
+        private final AtomicReference<CompletableFuture<T>> future = new AtomicReference<>();
+
+        private Async(Supplier<CompletableFuture<T>> supplier) {
+            this.supplier = supplier;
+        }
+
+        public CompletableFuture<T> get() {
+            var existing = future.get();
+            if (existing != null)
+                return existing.copy();
+
+            var started = new CompletableFuture<T>();
+            while (!future.compareAndSet(null, started)) {
+                var current = future.get();
+                if (current != null)
+                    return current.copy();
+            }
+
+            try {
+                supplier.get().whenComplete((value, t) -> {
+                    if (t != null) {
+                        future.compareAndSet(started, null);
+                        started.completeExceptionally(t);
+                    } else {
+                        started.complete(value);
+                    }
+                });
+            } catch (Exception e) {
+                future.compareAndSet(started, null);
+                started.completeExceptionally(e);
+            }
+
+            return started.copy();
+        }
+
+        public void reset() {
+            future.set(null);
+        }
+
     }
 
 }
@@ -0,0 +1,60 @@
+package com.hayden.utilitymodule.concurrent.striped;
+
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The stripes each thread holds through the leases bound to it, so a nested lease on a thread holding a stripe
+ * reenters it instead of waiting for itself. The stores' locks are not owned by a thread, so this is what makes
+ * them reentrant. A lease is bound to the thread that takes it until it is detached or closed.
+ */
+final class BoundStripes {
+
+    private final ThreadLocal<Map<Integer, StripedLock.Mode>> bound = new ThreadLocal<>();
+
+    /**
+     * @return the mode this thread holds the stripe in, empty if it does not hold it.
+     */
+    Optional<StripedLock.Mode> mode(int stripe) {
+        var stripes = bound.get();
+        return stripes == null ? Optional.empty() : Optional.ofNullable(stripes.get(stripe));
+    }
+
+    /**
+     * Binds the stripes a lease took to this thread.
+     *
+     * @return unbinds them, at most once and on this thread.
+     */
+    Runnable bind(List<Integer> stripes, StripedLock.Mode mode) {
+        if (stripes.isEmpty())
+            return () -> {};
+
+        var thread = Thread.currentThread();
+        var held = bound.get();
+        if (held == null) {
+            held = new HashMap<>();
+            bound.set(held);
+        }
+        for (var stripe : stripes) {
+            held.put(stripe, mode);
+        }
+
+        var unbound = new AtomicBoolean();
+        return () -> {
+            if (unbound.getAndSet(true))
+                return;
+
+            Assert.state(Thread.currentThread() == thread, "A lease is detached or closed on the thread that took it.");
+            var current = bound.get();
+            stripes.forEach(current::remove);
+            if (current.isEmpty())
+                bound.remove();
+        };
+    }
+
+}
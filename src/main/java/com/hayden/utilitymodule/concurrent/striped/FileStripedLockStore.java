@@ -0,0 +1,384 @@
+package com.hayden.utilitymodule.concurrent.striped;
+
+import com.google.common.hash.Hashing;
+import io.opentelemetry.api.OpenTelemetry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.FileLockInterruptionException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Locks keys across every process sharing {@code directory}, such as replicas on a shared volume. Each stripe is a
+ * file holding its current lease: a fencing token, when it expires and who holds it. A lease is claimed by
+ * rewriting the file under a {@link FileChannel#lock()} held only for the read and write, so a holder that dies or
+ * hangs loses its keys once the lease expires instead of holding them forever. Claiming a stripe increments its
+ * fencing token. A lease is valid until the earliest of its stripes expires, and {@link Lease#renew()} extends
+ * every one of them while they are still held.
+ * <p>
+ * Within this JVM a stripe is also guarded by a semaphore for as long as it is held, which no thread owns, so a
+ * {@link Lease#detach() detached} lease can be released from whichever thread its result completes on. A nested
+ * lease on a thread holding a stripe reenters it rather than waiting for its own lease, and only the outermost lease
+ * on a stripe renews it. File locks are
+ * held by the whole JVM and overlapping ones throw, so every claim, renewal and release of a stripe file is
+ * serialized by a lock shared by all stores in this JVM. Every lease is exclusive, {@link StripedLock.Mode#READ}
+ * included.
+ */
+@Slf4j
+public class FileStripedLockStore implements StripedLockStore {
+
+    /**
+     * @param expiresAt epoch millis, 0 when released.
+     */
+    private record LeaseRecord(long token, long expiresAt, String owner) {
+
+        static final LeaseRecord NONE = new LeaseRecord(0, 0, "-");
+
+        boolean held(long now) {
+            return expiresAt > now;
+        }
+
+        static LeaseRecord read(FileChannel channel) throws IOException {
+            var buf = ByteBuffer.allocate((int) channel.size());
+            channel.read(buf, 0);
+            var fields = new String(buf.array(), StandardCharsets.UTF_8).trim().split(" ");
+            if (fields.length != 3)
+                return NONE;
+
+            return new LeaseRecord(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2]);
+        }
+
+        void write(FileChannel channel) throws IOException {
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap("%d %d %s".formatted(token, expiresAt, owner).getBytes(StandardCharsets.UTF_8)), 0);
+            channel.force(false);
+        }
+    }
+
+    private static final long RETRY_MILLIS = 10;
+
+    /**
+     * Serializes access to each stripe file within this JVM, across stores sharing a directory, as
+     * {@link FileChannel#lock()} throws rather than waits for a lock this JVM already holds.
+     */
+    private static final ConcurrentHashMap<Path, ReentrantLock> FILES = new ConcurrentHashMap<>();
+
+    private interface FileOp<T> {
+        T apply(FileChannel channel) throws IOException;
+    }
+
+    private final Path directory;
+
+    private final Duration lease;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Semaphore[] local;
+
+    private final BoundStripes bound = new BoundStripes();
+
+    /**
+     * The token of each stripe held by this JVM, written by the holder of its local semaphore.
+     */
+    private final long[] tokens;
+
+    /**
+     * When the lease of each stripe held by this JVM expires, in epoch millis, updated as it is renewed.
+     */
+    private final AtomicLongArray expiries;
+
+    private final StripedLockMetrics metrics;
+
+    public FileStripedLockStore(Path directory, int stripes, Duration lease) {
+        this(directory, stripes, lease, OpenTelemetry.noop());
+    }
+
+    /**
+     * @param openTelemetry where the time waited for leases is recorded.
+     */
+    public FileStripedLockStore(Path directory, int stripes, Duration lease, OpenTelemetry openTelemetry) {
+        Assert.isTrue(stripes > 0, "Stripes must be positive.");
+        Assert.isTrue(lease.isPositive(), "Lease must be positive.");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        this.directory = directory.toAbsolutePath().normalize();
+        this.lease = lease;
+        this.local = new Semaphore[stripes];
+        for (int i = 0; i < stripes; i++) {
+            local[i] = new Semaphore(1);
+        }
+        this.tokens = new long[stripes];
+        this.expiries = new AtomicLongArray(stripes);
+        this.metrics = new StripedLockMetrics(openTelemetry, "file");
+    }
+
+    /**
+     * Stable across processes, unlike Guava's striping, so every replica maps a key to the same file.
+     */
+    int stripe(String key) {
+        return Hashing.consistentHash(key.hashCode(), local.length);
+    }
+
+    @Override
+    public Optional<Lease> acquire(List<String> keys, StripedLock.Mode mode, Duration timeout) throws InterruptedException {
+        long deadline = timeout.isNegative() ? Long.MAX_VALUE : System.nanoTime() + timeout.toNanos();
+        var stripes = keys.stream().mapToInt(this::stripe).distinct().sorted().toArray();
+        List<Integer> owned = new ArrayList<>(stripes.length);
+        Map<Integer, Long> claimed = new HashMap<>();
+        try {
+            for (var stripe : stripes) {
+                if (bound.mode(stripe).isPresent()) {
+                    claimed.put(stripe, tokens[stripe]);
+                    continue;
+                }
+
+                long start = System.nanoTime();
+                boolean locked = take(stripe, deadline);
+                metrics.recordWait(mode, start);
+                if (!locked) {
+                    release(owned);
+                    return Optional.empty();
+                }
+
+                owned.add(stripe);
+                claimed.put(stripe, tokens[stripe]);
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            release(owned);
+            throw e;
+        }
+
+        var unbind = bound.bind(List.copyOf(owned), StripedLock.Mode.WRITE);
+        return Optional.of(new Lease() {
+
+            /**
+             * Renewal runs on another thread, so it must not rewrite a lease that close has released.
+             */
+            private final ReentrantLock guard = new ReentrantLock();
+
+            private boolean closed;
+
+            @Override
+            public long fencingToken(String key) {
+                var token = claimed.get(stripe(key));
+                Assert.notNull(token, "Key %s is not held by this lease.".formatted(key));
+                return token;
+            }
+
+            @Override
+            public boolean isValid() {
+                long now = System.currentTimeMillis();
+                for (var stripe : stripes) {
+                    if (expiries.get(stripe) <= now)
+                        return false;
+                }
+
+                return true;
+            }
+
+            /**
+             * Empty when every stripe is held by an enclosing lease on this thread, which renews them.
+             */
+            @Override
+            public Optional<Duration> duration() {
+                return owned.isEmpty() ? Optional.empty() : Optional.of(lease);
+            }
+
+            @Override
+            public boolean renew() {
+                guard.lock();
+                try {
+                    if (closed)
+                        return false;
+
+                    boolean renewed = true;
+                    for (var stripe : owned) {
+                        renewed &= renewLease(stripe, claimed.get(stripe));
+                    }
+
+                    return renewed;
+                } finally {
+                    guard.unlock();
+                }
+            }
+
+            @Override
+            public void detach() {
+                unbind.run();
+            }
+
+            @Override
+            public void close() {
+                unbind.run();
+                guard.lock();
+                try {
+                    closed = true;
+                    release(owned);
+                } finally {
+                    guard.unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * Takes the local semaphore of the stripe, then its lease.
+     */
+    private boolean take(int stripe, long deadline) throws InterruptedException {
+        var lock = local[stripe];
+        if (!lock.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS))
+            return false;
+
+        try {
+            while (true) {
+                var claimed = claim(stripe);
+                if (claimed.isPresent()) {
+                    tokens[stripe] = claimed.get().token();
+                    expiries.set(stripe, claimed.get().expiresAt());
+                    return true;
+                }
+                if (remaining(deadline) <= 0) {
+                    lock.release();
+                    return false;
+                }
+
+                Thread.sleep(Math.min(RETRY_MILLIS, Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining(deadline)))));
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            lock.release();
+            throw e;
+        }
+    }
+
+    private Optional<LeaseRecord> claim(int stripe) {
+        try {
+            return withFile(stripe, channel -> {
+                var current = LeaseRecord.read(channel);
+                long now = System.currentTimeMillis();
+                if (current.held(now))
+                    return Optional.empty();
+
+                var next = new LeaseRecord(current.token() + 1, now + lease.toMillis(), owner);
+                next.write(channel);
+                return Optional.of(next);
+            });
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Extends the lease of the stripe if it is still the one claimed with {@code token} and has not expired.
+     */
+    private boolean renewLease(int stripe, long token) {
+        try {
+            return withFile(stripe, channel -> {
+                var current = LeaseRecord.read(channel);
+                long now = System.currentTimeMillis();
+                if (current.token() != token || !current.owner().equals(owner) || !current.held(now))
+                    return false;
+
+                var renewed = new LeaseRecord(token, now + lease.toMillis(), owner);
+                renewed.write(channel);
+                expiries.set(stripe, renewed.expiresAt());
+                return true;
+            });
+        } catch (IOException e) {
+            log.error("Failed to renew lease {} on stripe {}.", token, stripe, e);
+            return false;
+        }
+    }
+
+    private void release(List<Integer> owned) {
+        for (int i = owned.size() - 1; i >= 0; i--) {
+            int stripe = owned.get(i);
+            try {
+                releaseLease(stripe);
+            } finally {
+                local[stripe].release();
+            }
+        }
+        owned.clear();
+    }
+
+    private void releaseLease(int stripe) {
+        try {
+            withFile(stripe, channel -> {
+                var current = LeaseRecord.read(channel);
+                if (current.token() == tokens[stripe] && current.owner().equals(owner)) {
+                    new LeaseRecord(current.token(), 0, LeaseRecord.NONE.owner()).write(channel);
+                } else {
+                    log.warn("Lease {} on stripe {} expired and was taken as lease {} before it was released.",
+                            tokens[stripe], stripe, current.token());
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            log.error("Failed to release lease {} on stripe {}, it is held until it expires.", tokens[stripe], stripe, e);
+        }
+    }
+
+    /**
+     * A virtual thread polls for the file lock rather than blocking in {@link FileChannel#lock()}, which would hold
+     * its carrier for as long as another process holds the file.
+     */
+    private static FileLock lock(FileChannel channel) throws IOException {
+        if (!Thread.currentThread().isVirtual())
+            return channel.lock();
+
+        while (true) {
+            var lock = channel.tryLock();
+            if (lock != null)
+                return lock;
+
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileLockInterruptionException();
+            }
+        }
+    }
+
+    /**
+     * Runs {@code op} on the stripe file under its lock in this JVM and then its file lock.
+     */
+    private <T> T withFile(int stripe, FileOp<T> op) throws IOException {
+        var path = directory.resolve("stripe-%d.lock".formatted(stripe));
+        var guard = FILES.computeIfAbsent(path, p -> new ReentrantLock());
+        guard.lock();
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             var ignored = lock(channel)) {
+            return op.apply(channel);
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    private static long remaining(long deadline) {
+        return deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+}
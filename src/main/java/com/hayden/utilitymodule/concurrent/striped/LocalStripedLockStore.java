@@ -0,0 +1,165 @@
+package com.hayden.utilitymodule.concurrent.striped;
+
+import com.google.common.hash.Hashing;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Read/write locks striped by key hash, serializing keys within this JVM only. Leases never expire. The number of
+ * stripes starts from the {@code utilitymodule.striped-lock.stripes} system property, by default scaled to the
+ * available processors.
+ * <p>
+ * The locks are {@link StampedLock}s, which no thread owns, so a {@link Lease#detach() detached} lease can be
+ * released from whichever thread its result completes on. A nested lease on a thread holding a stripe reenters it.
+ */
+public class LocalStripedLockStore implements StripedLockStore {
+
+    private final StampedLock[] locks;
+
+    private final BoundStripes bound = new BoundStripes();
+
+    private final AtomicLongArray fencingTokens;
+
+    private final StripedLockMetrics metrics;
+
+    public LocalStripedLockStore() {
+        this(OpenTelemetry.noop());
+    }
+
+    /**
+     * @param openTelemetry where the time waited for locks is recorded.
+     */
+    public LocalStripedLockStore(OpenTelemetry openTelemetry) {
+        this(Integer.getInteger("utilitymodule.striped-lock.stripes", defaultStripes()), openTelemetry);
+    }
+
+    public LocalStripedLockStore(int stripes) {
+        this(stripes, OpenTelemetry.noop());
+    }
+
+    public LocalStripedLockStore(int stripes, OpenTelemetry openTelemetry) {
+        Assert.isTrue(stripes > 0, "Stripes must be positive.");
+        this.locks = new StampedLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new StampedLock();
+        }
+        this.fencingTokens = new AtomicLongArray(stripes);
+        this.metrics = new StripedLockMetrics(openTelemetry, "local");
+    }
+
+    /**
+     * Enough stripes that unrelated keys rarely share one when every processor holds a lock.
+     */
+    static int defaultStripes() {
+        return Math.max(64, Runtime.getRuntime().availableProcessors() * 16);
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+
+    int stripe(String key) {
+        return Hashing.consistentHash(key.hashCode(), locks.length);
+    }
+
+    @Override
+    public Optional<Lease> acquire(List<String> keys, StripedLock.Mode mode, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<Lock> acquired = new ArrayList<>(keys.size());
+        List<Integer> taken = new ArrayList<>(keys.size());
+        Map<Integer, Long> tokens = new HashMap<>();
+        try {
+            for (var index : keys.stream().mapToInt(this::stripe).distinct().sorted().toArray()) {
+                if (reenters(index, mode)) {
+                    tokens.put(index, fencingTokens.incrementAndGet(index));
+                    continue;
+                }
+
+                var stripe = locks[index];
+                var lock = mode == StripedLock.Mode.READ ? stripe.asReadLock() : stripe.asWriteLock();
+                long start = System.nanoTime();
+                boolean locked = timeout.isNegative()
+                        ? lockIndefinitely(lock)
+                        : lock.tryLock(deadline - start, TimeUnit.NANOSECONDS);
+                metrics.recordWait(mode, start);
+                if (!locked) {
+                    unlock(acquired);
+                    return Optional.empty();
+                }
+
+                acquired.add(lock);
+                taken.add(index);
+                tokens.put(index, fencingTokens.incrementAndGet(index));
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            unlock(acquired);
+            throw e;
+        }
+
+        var unbind = bound.bind(taken, mode);
+        return Optional.of(new Lease() {
+            @Override
+            public long fencingToken(String key) {
+                var token = tokens.get(stripe(key));
+                Assert.notNull(token, "Key %s is not held by this lease.".formatted(key));
+                return token;
+            }
+
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+
+            @Override
+            public void detach() {
+                unbind.run();
+            }
+
+            @Override
+            public void close() {
+                unbind.run();
+                unlock(acquired);
+            }
+        });
+    }
+
+    /**
+     * A thread holding the stripe for writing reenters it in either mode, and one holding it for reading reenters
+     * it for reading. A read lock cannot be upgraded, as waiting for the other readers would wait for this one too.
+     *
+     * @throws IllegalStateException if the thread holds the stripe for reading and asks to write.
+     */
+    private boolean reenters(int stripe, StripedLock.Mode mode) {
+        var held = bound.mode(stripe);
+        if (held.isEmpty())
+            return false;
+
+        Assert.state(held.get() == StripedLock.Mode.WRITE || mode == StripedLock.Mode.READ,
+                "Cannot upgrade the read lock this thread holds on stripe %d to a write lock.".formatted(stripe));
+        return true;
+    }
+
+    private static boolean lockIndefinitely(Lock lock) {
+        lock.lock();
+        return true;
+    }
+
+    private static void unlock(List<Lock> acquired) {
+        for (int i = acquired.size() - 1; i >= 0; i--) {
+            acquired.get(i).unlock();
+        }
+        acquired.clear();
+    }
+
+}
@@ -6,10 +6,43 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Serializes calls by the keys in the given arguments, see {@link StripedLockAspect}. A method returning a
+ * {@link java.util.concurrent.CompletionStage}, {@link reactor.core.publisher.Mono} or
+ * {@link reactor.core.publisher.Flux} runs on its caller's thread once its keys are taken, or its subscriber's for
+ * a publisher, and holds them until its result completes.
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface StripedLock {
 
+    enum Mode {
+        /**
+         * Shared with other readers of the key, exclusive with writers.
+         */
+        READ,
+        WRITE
+    }
+
     int stringArg() default 0;
 
+    /**
+     * Arguments whose keys are all locked, taking precedence over {@link #stringArg()}.
+     */
+    int[] keyArgs() default {};
+
+    /**
+     * A method holding a key for {@link Mode#READ} cannot call one writing a key in the same stripe on its thread:
+     * the read lock cannot be upgraded, so the call throws an {@link IllegalStateException} instead of waiting for
+     * itself. Take the keys for {@link Mode#WRITE} in the outer method instead.
+     */
+    Mode mode() default Mode.WRITE;
+
+    /**
+     * How long to wait for the locks, negative to wait indefinitely. A method returning a
+     * {@link com.hayden.utilitymodule.result.Result} that times out returns a {@link StripedLockTimeout} error, and
+     * any other throws it.
+     */
+    long timeoutMillis() default -1;
+
 }
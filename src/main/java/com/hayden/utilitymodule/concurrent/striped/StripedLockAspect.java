@@ -1,46 +1,287 @@
 package com.hayden.utilitymodule.concurrent.striped;
 
-import com.google.common.util.concurrent.Striped;
-import lombok.RequiredArgsConstructor;
+import com.hayden.utilitymodule.result.Result;
+import io.opentelemetry.api.OpenTelemetry;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.concurrent.locks.Lock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Runs {@link StripedLock} methods under a read or write lock for each of their keys, taken from a
+ * {@link StripedLockStore}: the {@link StripedLockStore} bean if there is one, otherwise a
+ * {@link LocalStripedLockStore} recording its waits to the {@link OpenTelemetry} bean, if there is one. The lease is
+ * available to the method from {@link #currentLease()}, to pass its fencing token to the resource it guards.
+ * <p>
+ * The stores lock with {@code java.util.concurrent} locks rather than monitors, so virtual threads waiting for a
+ * key park without pinning their carrier. A lease that expires, such as a {@link FileStripedLockStore} lease, is
+ * checked before the method runs and renewed while it runs.
+ * <p>
+ * Methods returning a {@link CompletionStage}, {@link Mono} or {@link Flux} hold their keys until the result
+ * completes, or until the caller cancels it, rather than until they return. Their lease is taken on the calling
+ * thread, or the subscribing one for a publisher, which the method then runs on, and is detached once it returns,
+ * as the stores' locks are not owned by a thread, so the result releases it from whichever thread it completes on.
+ * While the method runs, calls it makes on the same keys reenter its lease, and a method called from one already
+ * holding its keys reenters that lease instead of waiting for it. Keys reentered this way are held only as long as
+ * the enclosing method holds them.
+ */
 @Aspect
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class StripedLockAspect {
 
-    Striped<Lock> lockStriped = Striped.lock(100);
+    private static final ThreadLocal<StripedLockStore.Lease> CURRENT = new ThreadLocal<>();
+
+    private final StripedLockStore store;
+
+    @Autowired
+    public StripedLockAspect(ObjectProvider<StripedLockStore> store, ObjectProvider<OpenTelemetry> openTelemetry) {
+        this(store.getIfAvailable(() -> new LocalStripedLockStore(openTelemetry.getIfAvailable(OpenTelemetry::noop))));
+    }
+
+    public StripedLockAspect(StripedLockStore store) {
+        this.store = store;
+    }
+
+    /**
+     * @return the lease of the innermost {@link StripedLock} method running on this thread.
+     */
+    public static Optional<StripedLockStore.Lease> currentLease() {
+        return Optional.ofNullable(CURRENT.get());
+    }
 
     @Around("@annotation(locked)")
     public Object around(ProceedingJoinPoint joinPoint,
                          StripedLock locked) throws Throwable {
         Object[] args = joinPoint.getArgs();
-        if (locked.stringArg() >= args.length) {
-            throw new IllegalArgumentException("Invalid number of arguments for %s".formatted(locked.getClass().getName()));
+        var keys = keys(args, locked);
+
+        if (joinPoint.getSignature() instanceof MethodSignature m) {
+            var returnType = m.getReturnType();
+            if (CompletionStage.class.isAssignableFrom(returnType))
+                return aroundFuture(joinPoint, args, keys, locked);
+            if (Mono.class.isAssignableFrom(returnType))
+                return Mono.defer(() -> aroundPublisher(joinPoint, args, keys, locked).next());
+            if (Flux.class.isAssignableFrom(returnType))
+                return Flux.defer(() -> aroundPublisher(joinPoint, args, keys, locked));
         }
-        var found = String.valueOf(args[locked.stringArg()]);
 
-        if (found == null)
-            throw new IllegalArgumentException("Invalid lock key for %s".formatted(locked.getClass().getName()));
+        var acquired = take(joinPoint, keys, locked);
+        if (acquired.isEmpty())
+            return timedOut(joinPoint, keys, locked);
+
+        var lease = acquired.get();
+        try (lease; var renewal = renewWhileHeld(lease, keys)) {
+            var ret = withLease(lease, () -> joinPoint.proceed(args));
+            if (!lease.isValid())
+                log.warn("Lease on {} expired before {} returned.", keys, joinPoint.getSignature().toShortString());
+
+            return ret;
+        }
+    }
 
+    /**
+     * The caller may cancel or complete the returned future, which would skip anything depending on it, so the
+     * lease is released from a stage only this aspect completes, or as soon as the caller cancels.
+     */
+    private CompletableFuture<Object> aroundFuture(ProceedingJoinPoint joinPoint, Object[] args, List<String> keys,
+                                                   StripedLock locked) throws Throwable {
+        var acquired = take(joinPoint, keys, locked);
+        if (acquired.isEmpty())
+            return CompletableFuture.failedFuture(new StripedLockTimeout(keys, Duration.ofMillis(locked.timeoutMillis())).toException());
+
+        var lease = acquired.get();
+        var release = releaseOnce(lease, renewWhileHeld(lease, keys), keys);
+        CompletableFuture<Object> stage;
         try {
-            lockStriped.get(found).lock();
+            stage = withLease(lease, () -> ((CompletionStage<Object>) joinPoint.proceed(args)).toCompletableFuture());
+        } catch (Throwable t) {
+            release.run();
+            throw t;
+        } finally {
+            lease.detach();
+        }
 
-            var ret = joinPoint.proceed(args);
+        var result = new CompletableFuture<Object>();
+        stage.whenComplete((r, t) -> {
+            release.run();
+            if (t != null)
+                result.completeExceptionally(t);
+            else
+                result.complete(r);
+        });
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                stage.cancel(true);
+                release.run();
+            }
+        });
 
-            return ret;
+        return result;
+    }
+
+    /**
+     * Runs once subscribed, taking the lease on the subscribing thread, and releases it when the publisher
+     * terminates or is cancelled.
+     */
+    private Flux<Object> aroundPublisher(ProceedingJoinPoint joinPoint, Object[] args, List<String> keys,
+                                         StripedLock locked) {
+        Optional<StripedLockStore.Lease> acquired;
+        try {
+            acquired = take(joinPoint, keys, locked);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Flux.error(e);
+        }
+        if (acquired.isEmpty())
+            return Flux.error(new StripedLockTimeout(keys, Duration.ofMillis(locked.timeoutMillis())).toException());
+
+        var lease = acquired.get();
+        var release = releaseOnce(lease, renewWhileHeld(lease, keys), keys);
+        Flux<Object> result;
+        try {
+            result = withLease(lease, () -> Flux.from((Publisher<Object>) joinPoint.proceed(args)));
+        } catch (Throwable t) {
+            release.run();
+            return Flux.error(t);
+        } finally {
+            lease.detach();
+        }
+
+        return result.doFinally(s -> release.run());
+    }
+
+    /**
+     * Takes the lease, closing it again if it expired while it was taken.
+     *
+     * @return empty if the keys could not be taken in time.
+     */
+    private Optional<StripedLockStore.Lease> take(ProceedingJoinPoint joinPoint, List<String> keys,
+                                                  StripedLock locked) throws InterruptedException {
+        var acquired = store.acquire(keys, locked.mode(), Duration.ofMillis(locked.timeoutMillis()));
+        if (acquired.isPresent() && !acquired.get().isValid()) {
+            acquired.get().close();
+            log.warn("Lease on {} expired before {} could run.", keys, joinPoint.getSignature().toShortString());
+            return Optional.empty();
+        }
+
+        return acquired;
+    }
+
+    /**
+     * Stops renewing and closes a detached lease, once, from whichever thread its result completes or is cancelled
+     * on.
+     */
+    private static Runnable releaseOnce(StripedLockStore.Lease lease, Renewal renewal, List<String> keys) {
+        var released = new AtomicBoolean();
+        return () -> {
+            if (released.getAndSet(true))
+                return;
+
+            try (lease; renewal) {
+                if (!lease.isValid())
+                    log.warn("Lease on {} expired before its result completed.", keys);
+            }
+        };
+    }
+
+    private interface Renewal extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Renews a lease that expires every third of its duration until closed, so a method running longer than the
+     * lease keeps its keys. A lease that cannot be renewed has expired or been taken, which is logged. A lease
+     * without a duration, such as one nested in an enclosing lease on the same keys, is not renewed here.
+     */
+    private static Renewal renewWhileHeld(StripedLockStore.Lease lease, List<String> keys) {
+        var duration = lease.duration();
+        if (duration.isEmpty())
+            return () -> {};
+
+        var period = Math.max(1, duration.get().toMillis() / 3);
+        var stopped = new CompletableFuture<Void>();
+        Thread.ofVirtual().name("striped-lock-renewal").start(() -> {
+            while (true) {
+                try {
+                    stopped.get(period, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    try {
+                        if (!lease.renew()) {
+                            if (!stopped.isDone())
+                                log.warn("Lease on {} expired before it could be renewed.", keys);
+                            return;
+                        }
+                    } catch (RuntimeException renewFailed) {
+                        log.error("Failed to renew the lease on {}, it expires while the method runs.", keys, renewFailed);
+                        return;
+                    }
+                } catch (InterruptedException | ExecutionException e) {
+                    return;
+                }
+            }
+        });
+        return () -> stopped.complete(null);
+    }
+
+    private interface Proceed<T> {
+        T proceed() throws Throwable;
+    }
+
+    private static <T> T withLease(StripedLockStore.Lease lease, Proceed<T> proceed) throws Throwable {
+        var previous = CURRENT.get();
+        try {
+            CURRENT.set(lease);
+            return proceed.proceed();
         } finally {
-            lockStriped.get(found).unlock();
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    private static List<String> keys(Object[] args, StripedLock locked) {
+        var indices = locked.keyArgs().length == 0 ? new int[]{locked.stringArg()} : locked.keyArgs();
+        List<String> keys = new ArrayList<>(indices.length);
+        for (var i : indices) {
+            if (i < 0 || i >= args.length)
+                throw new IllegalArgumentException("Invalid number of arguments for %s".formatted(locked.getClass().getName()));
+            if (args[i] == null)
+                throw new IllegalArgumentException("Invalid lock key for %s".formatted(locked.getClass().getName()));
+
+            keys.add(String.valueOf(args[i]));
         }
 
+        return keys;
+    }
+
+    private static Object timedOut(ProceedingJoinPoint joinPoint, List<String> keys, StripedLock locked) {
+        var error = new StripedLockTimeout(keys, Duration.ofMillis(locked.timeoutMillis()));
+        log.debug("{}", error.getMessage());
+        if (joinPoint.getSignature() instanceof MethodSignature m && Result.class.isAssignableFrom(m.getReturnType()))
+            return Result.err(error);
+
+        throw error.toException();
     }
 }
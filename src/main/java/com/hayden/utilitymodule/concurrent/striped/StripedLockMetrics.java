@@ -0,0 +1,39 @@
+package com.hayden.utilitymodule.concurrent.striped;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+
+/**
+ * Records the time waited for each stripe to the {@code utilitymodule.striped_lock.wait} histogram, by mode and
+ * store. Stripes are not an attribute, as their number scales with the processors and would exceed the series an
+ * instrument may have.
+ */
+final class StripedLockMetrics {
+
+    private static final AttributeKey<String> MODE = AttributeKey.stringKey("mode");
+
+    private static final AttributeKey<String> STORE = AttributeKey.stringKey("store");
+
+    private final DoubleHistogram waitTime;
+
+    private final Attributes[] modeAttributes;
+
+    StripedLockMetrics(OpenTelemetry openTelemetry, String store) {
+        this.waitTime = openTelemetry.getMeter(StripedLockAspect.class.getName())
+                .histogramBuilder("utilitymodule.striped_lock.wait")
+                .setDescription("Time waited to take a striped lock.")
+                .setUnit("ms")
+                .build();
+        this.modeAttributes = new Attributes[StripedLock.Mode.values().length];
+        for (var mode : StripedLock.Mode.values()) {
+            modeAttributes[mode.ordinal()] = Attributes.of(MODE, mode.name(), STORE, store);
+        }
+    }
+
+    void recordWait(StripedLock.Mode mode, long startNanos) {
+        waitTime.record((System.nanoTime() - startNanos) / 1_000_000d, modeAttributes[mode.ordinal()]);
+    }
+
+}
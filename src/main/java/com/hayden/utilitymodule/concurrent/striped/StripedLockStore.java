@@ -0,0 +1,69 @@
+package com.hayden.utilitymodule.concurrent.striped;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Where {@link StripedLockAspect} takes its locks: {@link LocalStripedLockStore} within one JVM, or
+ * {@link FileStripedLockStore} across every process sharing a directory.
+ */
+public interface StripedLockStore {
+
+    /**
+     * A lock held on a set of keys, released by {@link #close()}.
+     */
+    interface Lease extends AutoCloseable {
+
+        /**
+         * Increases each time the stripe of the key is taken, so a resource can reject writes carrying an older
+         * token from a holder whose lease has expired.
+         */
+        long fencingToken(String key);
+
+        /**
+         * False once the lease has expired, after which another holder may have taken the keys.
+         */
+        boolean isValid();
+
+        /**
+         * How long the lease lasts once taken or renewed, empty for a lease that never expires or that needs no
+         * renewal of its own, as an enclosing lease on this thread renews its keys.
+         */
+        default Optional<Duration> duration() {
+            return Optional.empty();
+        }
+
+        /**
+         * Extends the lease by its {@link #duration()} from now, if it is still valid and not closed.
+         *
+         * @return false if the lease had already expired or been closed, in which case it stays invalid.
+         */
+        default boolean renew() {
+            return isValid();
+        }
+
+        /**
+         * Unbinds the lease from the thread that took it, so it can be closed from another thread once a result
+         * completes. Nested leases on that thread then wait for its keys like any other. Leases are not bound to a
+         * thread unless their store says otherwise.
+         */
+        default void detach() {}
+
+        /**
+         * Releases the keys, on the thread that took the lease unless it was {@link #detach() detached}.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * Takes the stripes of all keys in one order, so callers locking overlapping keys cannot deadlock. Stripes the
+     * calling thread already holds are reentered rather than waited for.
+     *
+     * @param timeout how long to wait for all keys, negative to wait indefinitely.
+     * @return empty if the keys could not all be taken in time, with none of them held.
+     */
+    Optional<Lease> acquire(List<String> keys, StripedLock.Mode mode, Duration timeout) throws InterruptedException;
+
+}
@@ -0,0 +1,36 @@
+package com.hayden.utilitymodule.concurrent.striped;
+
+import com.hayden.utilitymodule.result.error.SingleError;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Error of a {@link StripedLock} method that could not take its locks within {@link StripedLock#timeoutMillis()}.
+ */
+public record StripedLockTimeout(List<String> keys, Duration timeout) implements SingleError {
+
+    public static class StripedLockTimeoutException extends RuntimeException {
+
+        private final StripedLockTimeout error;
+
+        public StripedLockTimeoutException(StripedLockTimeout error) {
+            super(error.getMessage());
+            this.error = error;
+        }
+
+        public StripedLockTimeout error() {
+            return error;
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        return "Timed out after %s waiting for striped locks on %s.".formatted(timeout, keys);
+    }
+
+    public StripedLockTimeoutException toException() {
+        return new StripedLockTimeoutException(this);
+    }
+
+}
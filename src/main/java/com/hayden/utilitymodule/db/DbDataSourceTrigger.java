@@ -3,15 +3,19 @@ package com.hayden.utilitymodule.db;
 import org.springframework.transaction.TransactionManager;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.hayden.utilitymodule.assert_util.AssertUtil;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -39,54 +43,106 @@ public class DbDataSourceTrigger {
 
     }
 
-    private String currentKey = VALIDATION_DB_KEY;
+    /**
+     * The global key with the number of times it has been set, replaced as one so a reader never pairs a key with
+     * another key's epoch.
+     */
+    private record GlobalKey(String key, long epoch) {}
+
+    /**
+     * Bound by {@link #doOnScopedKey}, inherited by virtual threads forked in a {@link java.util.concurrent.StructuredTaskScope}.
+     */
+    private static final ScopedValue<String> SCOPED_KEY = ScopedValue.newInstance();
+
+    private volatile GlobalKey global = new GlobalKey(VALIDATION_DB_KEY, 0);
+
+    /**
+     * Every key switched to, see {@link WithDbWarmup}.
+     */
+    private final Set<String> knownKeys = new ConcurrentSkipListSet<>(Set.of(APP_DB_KEY, VALIDATION_DB_KEY));
 
     private final ThreadLocal<String> threadKey = new ThreadLocal<>();
     private final CountDownLatch countDownLatch = new CountDownLatch(1);
-    private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-    private final Object lock = new Object();
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     public String setGlobalCurrentKey(String globalCurrent) {
-        return doWithWriteLock(() -> this.currentKey = globalCurrent);
+        return doWithWriteLock(() -> setGlobal(globalCurrent));
     }
 
     public String initializeKeyTo(String newKey) {
         if (countDownLatch.getCount() > 0) {
-            synchronized (lock) {
+            doWithWriteLock(() -> {
                 if (countDownLatch.getCount() > 0) {
-                    doWithWriteLock(() -> {
-                        countDownLatch.countDown();
-                        this.setInitializedInner();
-                        this.threadKey.set(newKey);
-                        this.currentKey = newKey;
-                    });
-                    AssertUtil.assertTrue(() -> Objects.equals(newKey, this.currentKey),
+                    countDownLatch.countDown();
+                    this.setInitializedInner();
+                    this.threadKey.set(newKey);
+                    setGlobal(newKey);
+                    AssertUtil.assertTrue(() -> Objects.equals(newKey, this.global.key()),
                             "Global key was not correctly set in write lock.");
-                    log.info("Initial global current key: {}", this.currentKey);
+                    log.info("Initial global current key: {}", newKey);
                 }
-            }
+            });
         }
 
         return this.currentKey();
     }
 
     /**
-     * Must be able to be accessed - one writer at a time.
-     * @return
+     * The key of this thread if set, then of the enclosing {@link #doOnScopedKey}, then the global key. Reading
+     * the global key is a single volatile read, as it is only ever replaced.
      */
     public String currentKey() {
         String value = threadKey.get();
-        return Optional.ofNullable(value)
-                .orElseGet(() -> {
-                    this.reentrantReadWriteLock.readLock().lock();
-                    try {
-                        return this.currentKey;
-                    } finally {
-                        this.reentrantReadWriteLock.readLock().unlock();
-                    }
-                });
+        if (value != null)
+            return value;
+        if (SCOPED_KEY.isBound())
+            return SCOPED_KEY.get();
+
+        return global.key();
+    }
+
+    /**
+     * Incremented each time the global key is set, so a cache of routing decisions can check it is still current.
+     */
+    public long epoch() {
+        return global.epoch();
+    }
+
+    /**
+     * Runs with {@code key} bound in a {@link ScopedValue}, which threads forked in a
+     * {@link java.util.concurrent.StructuredTaskScope} inherit without copying. The key of this thread is cleared
+     * for the call, so the scoped key applies, and restored after. Whatever {@code toCall} throws propagates
+     * unchanged, checked exceptions included.
+     */
+    @SneakyThrows
+    public <T> T doOnScopedKey(String key, Callable<T> toCall) {
+        String prev = threadKey.get();
+        threadKey.remove();
+        doBind(key);
+        try {
+            return ScopedValue.where(SCOPED_KEY, key).call(toCall);
+        } finally {
+            doPerformReset(prev);
+        }
     }
 
+    /**
+     * @return true if the key had not been seen before.
+     */
+    public boolean registerKey(String key) {
+        return knownKeys.add(key);
+    }
+
+    public Set<String> knownKeys() {
+        return Collections.unmodifiableSet(knownKeys);
+    }
+
+    /**
+     * Only called under the write lock, so a plain volatile write cannot lose another writer's epoch.
+     */
+    private void setGlobal(String key) {
+        global = new GlobalKey(key, global.epoch() + 1);
+    }
 
     private static void doBind(String key) {
         doUnbind();
@@ -103,7 +159,7 @@ public class DbDataSourceTrigger {
         String prev = currentKey();
 
         var setPrev = this.threadKey.get() == null ? null : prev;
-        var starting = Optional.ofNullable(setPrev).orElse(this.currentKey);
+        var starting = Optional.ofNullable(setPrev).orElse(prev);
 
         try {
 
@@ -169,13 +225,16 @@ public class DbDataSourceTrigger {
         });
     }
 
+    /**
+     * Serializes writers of the global key. Readers never wait for it.
+     */
     public String doWithWriteLock(Runnable toDo) {
-        reentrantReadWriteLock.writeLock().lock();
+        writeLock.lock();
         try {
             toDo.run();
-            return this.currentKey;
+            return this.global.key();
         } finally {
-            reentrantReadWriteLock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
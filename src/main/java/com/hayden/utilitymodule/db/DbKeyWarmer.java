@@ -0,0 +1,11 @@
+package com.hayden.utilitymodule.db;
+
+/**
+ * Implemented by the routing data source to open its pool for a key ahead of the first request routed to it, see
+ * {@link WithDbWarmup}.
+ */
+public interface DbKeyWarmer {
+
+    void warm(String key);
+
+}
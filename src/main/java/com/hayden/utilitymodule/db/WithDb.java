@@ -9,4 +9,10 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface WithDb {
     String value();
+
+    /**
+     * Binds the key in a {@link ScopedValue} rather than a thread local, so virtual threads forked in a
+     * {@link java.util.concurrent.StructuredTaskScope} within the method use it too.
+     */
+    boolean scoped() default false;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.hayden.utilitymodule.db;
 
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -11,8 +12,10 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.hayden.utilitymodule.reflection.ParameterAnnotationUtils.resolveAnnotationForMethod;
 
@@ -23,9 +26,19 @@ import static com.hayden.utilitymodule.reflection.ParameterAnnotationUtils.resol
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class WithDbAspect  {
 
+    /**
+     * Where an annotated method was called, as {@link WithDb} may be on the method or on the target class.
+     */
+    private record Site(Method method, Class<?> target) {}
+
     private final DbDataSourceTrigger dbDataSourceTrigger;
 
-    @Pointcut("@annotation(com.hayden.utilitymodule.db.WithDb)")
+    private final ConcurrentHashMap<Site, Optional<WithDb>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Methods annotated with {@link WithDb}, or declared by a class annotated with it.
+     */
+    @Pointcut("@annotation(com.hayden.utilitymodule.db.WithDb) || @within(com.hayden.utilitymodule.db.WithDb)")
     public void withDbAnnotation(){}
 
 
@@ -35,10 +48,14 @@ public class WithDbAspect  {
                 .isActualTransactionActive() && log.isDebugEnabled()) {
             log.debug("Inside of Spring transaction - make sure to provide a transaction manager bean with the abstract routing data source.");
         }
+        var withDb = withDb(pjp);
+        if (withDb.filter(WithDb::scoped).isPresent()) {
+            return dbDataSourceTrigger.doOnScopedKey(withDb.get().value(), () -> proceed(pjp));
+        }
+
         return dbDataSourceTrigger.doOnKey(sk -> {
 
-            resolveAnnotationForMethod(pjp, WithDb.class)
-                    .map(WithDb::value)
+            withDb.map(WithDb::value)
                     .ifPresentOrElse(
                             k -> {
                                 if (org.springframework.transaction.support.TransactionSynchronizationManager
@@ -61,5 +78,29 @@ public class WithDbAspect  {
         });
     }
 
+    /**
+     * Rethrows whatever the method throws unchanged, checked exceptions included, rather than wrapping it.
+     */
+    @SneakyThrows
+    private static Object proceed(ProceedingJoinPoint pjp) {
+        return pjp.proceed(pjp.getArgs());
+    }
+
+    /**
+     * Resolves the annotation once per site rather than by reflection on every call.
+     */
+    private Optional<WithDb> withDb(ProceedingJoinPoint pjp) {
+        var sig = (MethodSignature) pjp.getSignature();
+        var site = new Site(sig.getMethod(), pjp.getTarget() != null ? pjp.getTarget().getClass() : sig.getDeclaringType());
+        var cached = resolved.get(site);
+        if (cached != null)
+            return cached;
+
+        return resolved.computeIfAbsent(site, s -> {
+            var withDb = resolveAnnotationForMethod(pjp, WithDb.class);
+            withDb.map(WithDb::value).ifPresent(dbDataSourceTrigger::registerKey);
+            return withDb;
+        });
+    }
 
 }
@@ -0,0 +1,77 @@
+package com.hayden.utilitymodule.db;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Once every singleton is created, collects the keys of {@link WithDb} on the beans, along with
+ * {@link DbDataSourceTrigger#APP_DB_KEY} and {@link DbDataSourceTrigger#VALIDATION_DB_KEY}, and hands each to the
+ * {@link DbKeyWarmer} beans, so the first request after switching keys does not wait for a pool to open.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WithDbWarmup implements SmartInitializingSingleton {
+
+    private final ApplicationContext context;
+
+    private final DbDataSourceTrigger dbDataSourceTrigger;
+
+    private final ObjectProvider<DbKeyWarmer> warmers;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (warmers.stream().findAny().isEmpty())
+            return;
+
+        var keys = keys();
+        keys.forEach(dbDataSourceTrigger::registerKey);
+        warmers.forEach(warmer -> keys.forEach(key -> {
+            try {
+                warmer.warm(key);
+                log.debug("Warmed data source key {}.", key);
+            } catch (Exception e) {
+                log.warn("Failed to warm data source key {}.", key, e);
+            }
+        }));
+    }
+
+    Set<String> keys() {
+        Set<String> keys = new LinkedHashSet<>(dbDataSourceTrigger.knownKeys());
+        for (var name : context.getBeanDefinitionNames()) {
+            Class<?> type;
+            try {
+                type = context.getType(name, false);
+            } catch (Exception e) {
+                log.debug("Could not resolve type of bean {} for @WithDb keys.", name, e);
+                continue;
+            }
+            if (type == null)
+                continue;
+
+            var userType = ClassUtils.getUserClass(type);
+            var onType = AnnotatedElementUtils.findMergedAnnotation(userType, WithDb.class);
+            if (onType != null)
+                keys.add(onType.value());
+
+            ReflectionUtils.doWithMethods(userType, m -> {
+                var onMethod = AnnotatedElementUtils.findMergedAnnotation(m, WithDb.class);
+                if (onMethod != null)
+                    keys.add(onMethod.value());
+            });
+        }
+
+        return keys;
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.hayden.utilitymodule.free;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a {@link Free} program against an {@link AsyncInterpreter} without blocking, see {@link Free#parseAsync}.
+ * Binds run on the thread completing the previous effect, or in the same loop when it has already completed, so
+ * the stack does not grow with the program. The branches of a {@link Free.Parallel} run concurrently, and the first
+ * to fail cancels the others. Cancelling a run cancels its effects in flight and the branches it is running, down
+ * to their own effects in flight.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class AsyncFreeInterpreter {
+
+    /**
+     * The program or one of its parallel branches.
+     *
+     * @param inFlight effects not yet completed, cancelled when the run is.
+     * @param branches parallel branches not yet finished, cancelled when the run is.
+     * @param finished completed with the fiber once the run finishes, or cancelled to stop it.
+     */
+    private record Run(AsyncInterpreter interpreter, Set<CompletableFuture<?>> inFlight,
+                       Set<CompletableFuture<FreeInterpreter.Fiber>> branches,
+                       CompletableFuture<FreeInterpreter.Fiber> finished) {
+
+        boolean isCancelled() {
+            return finished.isCancelled();
+        }
+    }
+
+    private AsyncFreeInterpreter() {}
+
+    static <F extends Effect, A> CompletableFuture<A> parse(Free<F, A> program, AsyncInterpreter<F, A> interpreter) {
+        var result = new CompletableFuture<A>();
+        var finished = start(program, interpreter);
+
+        result.whenComplete((a, t) -> {
+            if (result.isCancelled())
+                finished.cancel(true);
+        });
+
+        finished.whenComplete((fiber, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+            } else if (fiber.error != null) {
+                try {
+                    result.complete(FreeInterpreter.mapErr(fiber.error, interpreter.mapErr()));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            } else {
+                result.complete((A) fiber.value);
+            }
+        });
+
+        return result;
+    }
+
+    private static CompletableFuture<FreeInterpreter.Fiber> start(Free<?, ?> program, AsyncInterpreter interpreter) {
+        var run = new Run(interpreter, ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet(), new CompletableFuture<>());
+        run.finished().whenComplete((fiber, t) -> {
+            if (run.isCancelled()) {
+                run.inFlight().forEach(f -> f.cancel(true));
+                run.branches().forEach(f -> f.cancel(true));
+            }
+        });
+
+        drive(new FreeInterpreter.Fiber(program), run);
+        return run.finished();
+    }
+
+    /**
+     * Steps the fiber until it waits on an effect that has not completed, resuming from its callback, or until
+     * it finishes or the run is cancelled.
+     */
+    private static void drive(FreeInterpreter.Fiber fiber, Run run) {
+        while (!run.finished().isDone()) {
+            CompletableFuture<Free<?, ?>> next;
+            switch (FreeInterpreter.step(fiber)) {
+                case DONE, FAILED -> {
+                    run.finished().complete(fiber);
+                    return;
+                }
+                case SUSPENDED -> next = interpret(run, ((Free.Suspend<?, ?>) fiber.current).f());
+                case PARALLEL -> next = parallel(((Free.Parallel<?, ?>) fiber.current).branches(), run);
+                default -> throw new IllegalStateException("Unexpected step.");
+            }
+
+            if (!next.isDone()) {
+                next.whenComplete((free, t) -> {
+                    fiber.current = outcome(free, t);
+                    drive(fiber, run);
+                });
+                return;
+            }
+
+            fiber.current = next.handle(AsyncFreeInterpreter::outcome).join();
+        }
+    }
+
+    private static CompletableFuture<Free<?, ?>> interpret(Run run, Effect effect) {
+        CompletableFuture<Free<?, ?>> future;
+        try {
+            future = (CompletableFuture<Free<?, ?>>) run.interpreter().apply(effect);
+        } catch (Exception t) {
+            return CompletableFuture.completedFuture(new Free.Error<>(t.getMessage(), t));
+        }
+
+        if (future.isDone())
+            return future;
+
+        run.inFlight().add(future);
+        future.whenComplete((free, t) -> run.inFlight().remove(future));
+        // The run may have been cancelled after it checked, before the effect was added.
+        if (run.isCancelled())
+            future.cancel(true);
+
+        return future;
+    }
+
+    /**
+     * Each branch is a run of its own, cancelled with the run it belongs to or when another branch fails. A branch
+     * leaves {@link Run#branches()} once it finishes, so a long run does not keep every finished branch.
+     */
+    private static CompletableFuture<Free<?, ?>> parallel(List<? extends Free<?, ?>> branches, Run run) {
+        if (branches.isEmpty())
+            return CompletableFuture.completedFuture(Free.pure(List.of()));
+
+        List<CompletableFuture<FreeInterpreter.Fiber>> fibers = branches.stream()
+                .map(branch -> start(branch, run.interpreter()))
+                .toList();
+
+        for (var branch : fibers) {
+            run.branches().add(branch);
+            branch.whenComplete((fiber, t) -> run.branches().remove(branch));
+            // The run may have been cancelled after the branch started, before it was added.
+            if (run.isCancelled())
+                branch.cancel(true);
+        }
+
+        var combined = new CompletableFuture<Free<?, ?>>();
+        var remaining = new AtomicInteger(fibers.size());
+        fibers.forEach(f -> f.whenComplete((fiber, t) -> {
+            if (t != null || fiber.error != null) {
+                if (combined.complete(t != null ? outcome(null, t) : fiber.error))
+                    fibers.forEach(other -> other.cancel(true));
+            } else if (remaining.decrementAndGet() == 0) {
+                combined.complete(Free.pure(fibers.stream().map(done -> done.join().value).toList()));
+            }
+        }));
+
+        return combined;
+    }
+
+    private static Free<?, ?> outcome(Free<?, ?> free, Throwable t) {
+        if (t == null)
+            return free;
+
+        var cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        var exception = cause instanceof Exception e ? e : new RuntimeException(cause);
+        return new Free.Error<>(exception.getMessage(), exception);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.hayden.utilitymodule.free;
+
+import com.hayden.utilitymodule.result.async.ResultSchedulers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * {@link Interpreter} whose effects complete asynchronously, run by {@link Free#parseAsync}.
+ */
+public interface AsyncInterpreter<F extends Effect, A> extends Function<F, CompletableFuture<Free<F, A>>> {
+
+    /**
+     * Runs each effect of {@code interpreter} on the shared {@link ResultSchedulers#executor()}, virtual threads
+     * by default.
+     */
+    static <F extends Effect, A> AsyncInterpreter<F, A> of(Interpreter<F, A> interpreter) {
+        return of(interpreter, ResultSchedulers.executor());
+    }
+
+    static <F extends Effect, A> AsyncInterpreter<F, A> of(Interpreter<F, A> interpreter, Executor executor) {
+        return new AsyncInterpreter<>() {
+            @Override
+            public CompletableFuture<Free<F, A>> apply(F f) {
+                return CompletableFuture.supplyAsync(() -> interpreter.apply(f), executor);
+            }
+
+            @Override
+            public Interpreter.FreeErrorMapper<F, A> mapErr() {
+                return interpreter.mapErr();
+            }
+        };
+    }
+
+    default Interpreter.FreeErrorMapper<F, A> mapErr() {
+        return s -> {
+            Interpreter.log.error("No error mapper defined.");
+            return null;
+        };
+    }
+
+}
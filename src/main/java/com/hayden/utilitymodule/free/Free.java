@@ -1,10 +1,11 @@
 package com.hayden.utilitymodule.free;
 
 import com.hayden.utilitymodule.result.error.SingleError;
-import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 
@@ -27,95 +28,28 @@ public sealed interface Free<F extends Effect, A> {
         return new Error<>(new FreeError(f, t));
     }
 
-    static <F extends Effect, A> A parse(Free<F, A> p, Interpreter<F, A> interpreter) {
-        while (true) {
-            if (Thread.currentThread().isInterrupted()) {
-                return interpreter.mapErr().apply(detectedInterruption());
-            }
-            switch (p) {
-                // Preserve F & A in the pattern:
-                case Free.Pure<F, A> v -> {
-                    return v.a();
-                }
-
-                // Keep F so no cast is needed:
-                case Free.Suspend<F, ? extends A> s -> {
-                    try {
-                        p = interpreter.apply(s.f());
-
-                        if (p instanceof Free.Error<F,A> err) {
-                            return interpreter.mapErr().apply(err);
-                        }
-                    } catch(Exception t) {
-                        Error<F, A> err = new Free.Error(t.getMessage(), t);
-                        return interpreter.mapErr().apply(err);
-                    }
-                }
-
-                // Capture the wildcard via a helper so we don’t cast mapper/result:
-                case Free.FlatMapped<F, ?, A> fm -> {
-                    try {
-                        p = stepFlatMapped(fm, interpreter);
-
-                        if (p instanceof Free.Error<F,A> err) {
-                            return interpreter.mapErr().apply(err);
-                        }
-                    } catch(Exception t) {
-                        Error<F, A> err = new Free.Error(t.getMessage(), t);
-                        return interpreter.mapErr().apply(err);
-                    }
-                }
-                case Free.Error<F, A> v -> {
-                    try {
-                        return interpreter.mapErr().apply(v);
-                    } catch(Exception t) {
-                        Error<F, A> err = new Free.Error(t.getMessage(), t);
-                        return interpreter.mapErr().apply(err);
-                    }
-                }
-            }
-        }
+    /**
+     * Independent programs whose effects are interpreted together, see {@link Interpreter#applyAll}, with the
+     * values of all of them in order or the first error.
+     */
+    static <F extends Effect, A> Free<F, List<A>> parallel(List<Free<F, A>> frees) {
+        return new Parallel<>(List.copyOf(frees));
     }
 
-    // Helper to capture X in FlatMapped<F, X, A>
-    private static <F extends Effect, X, A> Free<F, A> stepFlatMapped(
-            FlatMapped<F, X, A> fm,
-            Interpreter<F, A> interpreter
-    ) {
-        var sub = fm.f();
-        return switch (sub) {
-            case Free.Pure<F, X> v      -> fm.mapper().apply(v.a());
-            case Free.Suspend<F, X> s   -> {
-                Function<X, Free<F, A>> mapper = fm.mapper();
-                yield interpreter.apply(s.f()).flatMap(mapped -> {
-                    try {
-                        if (Thread.currentThread().isInterrupted()) {
-                            return detectedInterruption();
-                        }
-                        Free<F, A> m =  mapper.apply((X) mapped);
-                        if (m instanceof Error<F, A>(
-                                FreeError error
-                        )) {
-                            return new Error<>(error);
-                        }
-
-                        return m;
-                    } catch (ClassCastException castException) {
-                        log.error("Could not cast {}.", mapped.getClass(), castException);
-                        throw castException;
-                    } catch (Exception t) {
-                        return new Free.Error<>(t.getMessage(), t);
-                    }
-                });
-            }
-            case Free.FlatMapped<F, ?, ?> ignored ->
-                    throw new IllegalStateException("Nested FlatMapped is not expected here");
-            case Free.Error<F, ?> v -> new Error<F, A>(v.error());
-        };
+    /**
+     * Stack safe for any depth of binds, see {@link FreeInterpreter}.
+     */
+    static <F extends Effect, A> A parse(Free<F, A> p, Interpreter<F, A> interpreter) {
+        return FreeInterpreter.parse(p, interpreter);
     }
 
-    private static <F extends Effect, A> @NotNull Error<F, A> detectedInterruption() {
-        return new Error<>("Detected an interruption.", new InterruptedException());
+    /**
+     * Runs without blocking a thread while effects are in flight, with the branches of {@link #parallel} running
+     * concurrently. Cancelling the returned future cancels the effects in flight, and an interrupted thread fails
+     * the program as in {@link #parse}.
+     */
+    static <F extends Effect, A> CompletableFuture<A> parseAsync(Free<F, A> p, AsyncInterpreter<F, A> interpreter) {
+        return AsyncFreeInterpreter.parse(p, interpreter);
     }
 
     record Pure<F extends Effect, A>(A a) implements Free<F, A> {
@@ -126,17 +60,21 @@ public sealed interface Free<F extends Effect, A> {
         @Override public <B> Free<F, B> flatMap(Function<A, Free<F, B>> g) { return new FlatMapped<>(this, g); }
     }
 
+    /**
+     * Binds are left nested as they are chained, and reassociated while interpreting.
+     */
     record FlatMapped<F extends Effect, A, B>(Free<F, A> f, Function<A, Free<F, B>> mapper)
             implements Free<F, B> {
         @Override
         public <C> Free<F, C> flatMap(Function<B, Free<F, C>> g) {
-            return new FlatMapped<>(f, x -> {
-                try {
-                    return mapper.apply(x).flatMap(g);
-                } catch (Exception e) {
-                    return Free.err(e.getMessage(), e);
-                }
-            });
+            return new FlatMapped<>(this, g);
+        }
+    }
+
+    record Parallel<F extends Effect, A>(List<Free<F, A>> branches) implements Free<F, List<A>> {
+        @Override
+        public <B> Free<F, B> flatMap(Function<List<A>, Free<F, B>> g) {
+            return new FlatMapped<>(this, g);
         }
     }
 
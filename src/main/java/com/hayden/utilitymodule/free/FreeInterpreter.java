@@ -0,0 +1,191 @@
+package com.hayden.utilitymodule.free;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs a {@link Free} program in a loop with an explicit stack of pending binds, so neither deep nor left-nested
+ * {@link Free.FlatMapped} chains grow the call stack. The branches of a {@link Free.Parallel} are run in lockstep:
+ * each advances to its next {@link Free.Suspend}, and the effects of all of them are handed to
+ * {@link Interpreter#applyAll(List)} together.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class FreeInterpreter {
+
+    /**
+     * A program being run, the step it is at and the binds waiting on its value, innermost on top.
+     */
+    static final class Fiber {
+
+        Free<?, ?> current;
+
+        final ArrayDeque<Function<Object, Free<?, ?>>> continuations = new ArrayDeque<>();
+
+        Object value;
+
+        Free.Error<?, ?> error;
+
+        boolean done;
+
+        Fiber(Free<?, ?> program) {
+            this.current = program;
+        }
+    }
+
+    enum Step {
+        DONE, SUSPENDED, PARALLEL, FAILED
+    }
+
+    private FreeInterpreter() {}
+
+    static <F extends Effect, A> A parse(Free<F, A> program, Interpreter<F, A> interpreter) {
+        var fiber = new Fiber(program);
+        if (advance(fiber, interpreter, false) == Step.FAILED)
+            return mapErr(fiber.error, interpreter.mapErr());
+
+        return (A) fiber.value;
+    }
+
+    /**
+     * Runs the fiber until it completes or fails, or with {@code batching} until it reaches an effect, which is
+     * left as its current step.
+     */
+    static Step advance(Fiber fiber, Interpreter interpreter, boolean batching) {
+        while (true) {
+            switch (step(fiber)) {
+                case DONE -> {
+                    return Step.DONE;
+                }
+                case FAILED -> {
+                    return Step.FAILED;
+                }
+                case SUSPENDED -> {
+                    if (batching)
+                        return Step.SUSPENDED;
+
+                    fiber.current = interpret(interpreter, ((Free.Suspend<?, ?>) fiber.current).f());
+                }
+                case PARALLEL -> fiber.current = runParallel(((Free.Parallel<?, ?>) fiber.current).branches(), interpreter);
+            }
+        }
+    }
+
+    /**
+     * Runs the binds of the fiber until it completes or fails, or reaches an effect or a parallel node, which is
+     * left as its current step.
+     */
+    static Step step(Fiber fiber) {
+        while (true) {
+            if (Thread.currentThread().isInterrupted()) {
+                fiber.error = detectedInterruption();
+                return Step.FAILED;
+            }
+
+            switch (fiber.current) {
+                case Free.Pure<?, ?> v -> {
+                    if (fiber.continuations.isEmpty()) {
+                        fiber.value = v.a();
+                        fiber.done = true;
+                        return Step.DONE;
+                    }
+
+                    fiber.current = bind(fiber.continuations.pop(), v.a());
+                }
+                case Free.FlatMapped<?, ?, ?> fm -> {
+                    fiber.continuations.push((Function<Object, Free<?, ?>>) (Function) fm.mapper());
+                    fiber.current = fm.f();
+                }
+                case Free.Suspend<?, ?> s -> {
+                    return Step.SUSPENDED;
+                }
+                case Free.Parallel<?, ?> p -> {
+                    return Step.PARALLEL;
+                }
+                case Free.Error<?, ?> e -> {
+                    fiber.error = e;
+                    return Step.FAILED;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the values of the branches in order, or the error of the first branch to fail.
+     */
+    static Free<?, ?> runParallel(List<? extends Free<?, ?>> branches, Interpreter interpreter) {
+        List<Fiber> fibers = new ArrayList<>(branches.size());
+        for (var branch : branches) {
+            fibers.add(new Fiber(branch));
+        }
+
+        while (true) {
+            List<Fiber> pending = new ArrayList<>(fibers.size());
+            List<Effect> effects = new ArrayList<>(fibers.size());
+            for (var fiber : fibers) {
+                if (fiber.done)
+                    continue;
+
+                switch (advance(fiber, interpreter, true)) {
+                    case DONE, PARALLEL -> {}
+                    case FAILED -> {
+                        return fiber.error;
+                    }
+                    case SUSPENDED -> {
+                        pending.add(fiber);
+                        effects.add(((Free.Suspend<?, ?>) fiber.current).f());
+                    }
+                }
+            }
+
+            if (pending.isEmpty())
+                return Free.pure(fibers.stream().map(f -> f.value).toList());
+
+            List<Free<?, ?>> interpreted;
+            try {
+                interpreted = interpreter.applyAll(effects);
+            } catch (Exception t) {
+                return new Free.Error<>(t.getMessage(), t);
+            }
+
+            if (interpreted.size() != effects.size())
+                return Free.err("Interpreted %s of %s batched effects.".formatted(interpreted.size(), effects.size()));
+
+            for (int i = 0; i < pending.size(); i++) {
+                pending.get(i).current = interpreted.get(i);
+            }
+        }
+    }
+
+    static <F extends Effect, A> A mapErr(Free.Error<?, ?> error, Interpreter.FreeErrorMapper<F, A> mapErr) {
+        try {
+            return mapErr.apply((Free.Error<F, A>) error);
+        } catch (Exception t) {
+            return mapErr.apply(new Free.Error<>(t.getMessage(), t));
+        }
+    }
+
+    static Free<?, ?> bind(Function<Object, Free<?, ?>> continuation, Object value) {
+        try {
+            return continuation.apply(value);
+        } catch (Exception t) {
+            return new Free.Error<>(t.getMessage(), t);
+        }
+    }
+
+    static Free<?, ?> interpret(Interpreter interpreter, Effect effect) {
+        try {
+            return (Free<?, ?>) interpreter.apply(effect);
+        } catch (Exception t) {
+            return new Free.Error<>(t.getMessage(), t);
+        }
+    }
+
+    static <F extends Effect, A> @NotNull Free.Error<F, A> detectedInterruption() {
+        return new Free.Error<>("Detected an interruption.", new InterruptedException());
+    }
+
+}
@@ -3,6 +3,7 @@ package com.hayden.utilitymodule.free;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.function.Function;
 
 public interface Interpreter<F extends Effect, A> extends Function<F, Free<F, A>> {
@@ -11,6 +12,15 @@ public interface Interpreter<F extends Effect, A> extends Function<F, Free<F, A>
 
     interface FreeErrorMapper<F extends Effect, A> extends Function<Free.Error<F, A>, A> {}
 
+    /**
+     * Interprets the effects pending across the branches of a {@link Free#parallel} at once, returning one program
+     * per effect in order, so that they can be batched, e.g. many reads into one query. Interprets each in turn
+     * by default.
+     */
+    default List<Free<F, A>> applyAll(List<F> effects) {
+        return effects.stream().map(this).toList();
+    }
+
     default FreeErrorMapper<F, A> mapErr() {
         return s -> {
             log.error("No error mapper defined.");
@@ -6,6 +6,7 @@ import com.hayden.utilitymodule.io.FileUtils;
 import com.hayden.utilitymodule.result.ClosableResult;
 import com.hayden.utilitymodule.result.OneResult;
 import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.error.LazyStackTrace;
 import com.hayden.utilitymodule.result.error.SingleError;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
@@ -90,7 +91,7 @@ public interface RepoUtil {
             git.reset().setMode(ResetCommand.ResetType.SOFT).setRef(head.name()).call();
             return Optional.empty();
         } catch (IOException e) {
-            return Optional.of(new RepoUtilError(Arrays.toString(e.getStackTrace())));
+            return Optional.of(new RepoUtilError(e));
         }
     }
 
@@ -183,9 +184,18 @@ public interface RepoUtil {
 
     record GitInitError(String getMessage) implements SingleError {}
 
-    record RepoUtilError(String getMessage) implements SingleError {
+    record RepoUtilError(String message, LazyStackTrace trace) implements SingleError {
+        public RepoUtilError(String getMessage) {
+            this(getMessage, null);
+        }
+
         public RepoUtilError(Throwable getMessage) {
-            this(SingleError.parseStackTraceToString(getMessage));
+            this(null, new LazyStackTrace(getMessage));
+        }
+
+        @Override
+        public String getMessage() {
+            return trace == null ? message : trace.get();
         }
     }
 
@@ -376,7 +386,7 @@ public interface RepoUtil {
         } catch (GitAPIException |
                  IncorrectObjectTypeException |
                  MissingObjectException e) {
-            return Result.err(new RepoUtilError(SingleError.parseStackTraceToString(e)));
+            return Result.err(new RepoUtilError(e));
         }
     }
 
@@ -1,6 +1,7 @@
 package com.hayden.utilitymodule.io;
 
 import com.hayden.utilitymodule.result.ClosableResult;
+import com.hayden.utilitymodule.result.closable.ClosableCleaner;
 import com.hayden.utilitymodule.result.error.SingleError;
 import com.hayden.utilitymodule.result.Result;
 import jakarta.annotation.Nonnull;
@@ -1033,6 +1034,8 @@ public class FileUtils {
                         }
                     };
 
+                    // closes the reader if iteration is abandoned before the end of the file.
+                    ClosableCleaner.register(iter, bfr);
                     return new LazyIterator(iter, bfr, isClosed);
                 });
 
@@ -1,6 +1,5 @@
 package com.hayden.utilitymodule.reflection;
 
-import com.hayden.utilitymodule.result.error.SingleError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,8 +44,7 @@ public interface Defaults {
                 }
             } catch (IllegalAccessException e) {
                 // Handle the case where reflection access fails (e.g., if the field is inaccessible)
-                log.error("Unable to access field: {}, {}",
-                        field.getName(), SingleError.parseStackTraceToString(e));
+                log.error("Unable to access field: {}", field.getName(), e);
                 if (log.isDebugEnabled()) {
                     throw new RuntimeException(e);
                 }
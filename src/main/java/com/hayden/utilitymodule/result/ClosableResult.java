@@ -1,6 +1,7 @@
 package com.hayden.utilitymodule.result;
 
 import com.hayden.utilitymodule.assert_util.AssertUtil;
+import com.hayden.utilitymodule.result.closable.ClosableCleaner;
 import com.hayden.utilitymodule.result.closable.ClosableMonitor;
 import com.hayden.utilitymodule.result.ok.ClosableOk;
 import com.hayden.utilitymodule.result.res_ty.IResultItem;
@@ -127,6 +128,14 @@ public interface ClosableResult<T extends AutoCloseable, E> extends OneResult<T,
 
     static void registerClosed(AutoCloseable closeable) {
         closableMonitor.registerClosed(closeable);
+        ClosableCleaner.release(closeable);
+    }
+
+    /**
+     * @return resources closed after every result holding them was collected, see {@link ClosableCleaner}.
+     */
+    static long reclaimedResources() {
+        return ClosableCleaner.reclaimed();
     }
 
     static void closeAllOpenResources() {
@@ -136,7 +145,7 @@ public interface ClosableResult<T extends AutoCloseable, E> extends OneResult<T,
     default void onInitialize() {
         if (this.r().isPresent()) {
             AssertUtil.assertTrue(() -> this.r().isOne(), "On initialize failed - Closable result type was more than one - not implemented.");
-            closableMonitor.onInitialize(() -> this.r().getClosableQuietly());
+            closableMonitor.onInitialize(() -> this.r().peekClosable());
         }
     }
 
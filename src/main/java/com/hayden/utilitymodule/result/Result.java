@@ -5,6 +5,11 @@ import com.hayden.utilitymodule.Either;
 import com.hayden.utilitymodule.result.agg.AggregateError;
 import com.hayden.utilitymodule.result.agg.AggregateParamError;
 import com.hayden.utilitymodule.result.agg.Responses;
+import com.hayden.utilitymodule.result.async.BlockingCalls;
+import com.hayden.utilitymodule.result.async.CompletableFutureResult;
+import com.hayden.utilitymodule.result.async.Deadline;
+import com.hayden.utilitymodule.result.async.ForkAll;
+import com.hayden.utilitymodule.result.async.IAsyncResultItem;
 import com.hayden.utilitymodule.result.error.Err;
 import com.hayden.utilitymodule.result.error.SingleError;
 import com.hayden.utilitymodule.result.map.StreamResultCollector;
@@ -15,6 +20,7 @@ import com.hayden.utilitymodule.result.ok.StdOk;
 import com.hayden.utilitymodule.result.res_many.ListResultItem;
 import com.hayden.utilitymodule.result.res_support.many.stream.StreamResult;
 import com.hayden.utilitymodule.result.res_support.one.ClosableOne;
+import com.hayden.utilitymodule.result.res_support.one.CompactOne;
 import com.hayden.utilitymodule.result.res_support.one.MutableOne;
 import com.hayden.utilitymodule.result.res_support.one.One;
 import com.hayden.utilitymodule.result.res_support.one.ResponseEntityOne;
@@ -22,7 +28,7 @@ import com.hayden.utilitymodule.result.res_ty.CachedCollectedResult;
 import com.hayden.utilitymodule.result.res_ty.ClosableResult;
 import com.hayden.utilitymodule.result.res_ty.IResultItem;
 import jakarta.annotation.Nullable;
-import java.lang.reflect.InvocationTargetException;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.function.*;
@@ -269,7 +275,7 @@ public interface Result<T, E> {
         E
     > tryFromThrow(Callable<T> o) {
         try {
-            return tryFromThrow(o.call(), () -> null);
+            return Result.tryOk(ClosableResult.opened(Optional.ofNullable(o.call()), () -> null));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -299,7 +305,7 @@ public interface Result<T, E> {
         );
         try {
             return Result.tryOk(
-                new ClosableResult<>(Optional.ofNullable(o.call()), onClose)
+                ClosableResult.opened(Optional.ofNullable(o.call()), onClose)
             );
         } catch (Exception e) {
             return Result.tryOk(
@@ -348,7 +354,7 @@ public interface Result<T, E> {
     }
 
     static <R, E> OneResult<R, E> ok(R r) {
-        return new One<>(new StdOk<>(r), Err.empty());
+        return CompactOne.ok(r);
     }
 
     static <R> OneResult<ResponseEntity<R>, BindingResult> ok(
@@ -371,7 +377,7 @@ public interface Result<T, E> {
     }
 
     static <R, E> OneResult<R, E> resOk(R r) {
-        return new One<>(new StdOk<>(r), Err.empty());
+        return CompactOne.ok(r);
     }
 
     static <R, E> Result<R, E> ok(IResultItem<R> r) {
@@ -411,27 +417,16 @@ public interface Result<T, E> {
     }
 
     static <R, E> OneResult<R, E> err(Optional<E> r) {
-        return new One<>(Ok.empty(), Err.err(r));
+        return CompactOne.err(r.orElse(null));
     }
 
+    /**
+     * Logged at debug only, and by the error's {@code toString()}, so creating an error never renders its message.
+     */
     static <R, E> OneResult<R, E> err(E r) {
-        if (r != null) {
-            try {
-                Object getMessage = r
-                    .getClass()
-                    .getMethod("getMessage")
-                    .invoke(r);
-                if (getMessage instanceof String s && !s.isBlank())
-                    log.error("Found error {}", s);
-            } catch (
-                NoSuchMethodException
-                | IllegalAccessException
-                | InvocationTargetException e
-            ) {
-                log.error("Found error", e);
-            }
-        }
-        return new One<>(Ok.empty(), Err.err(r));
+        if (r != null && log.isDebugEnabled())
+            log.debug("Found error {}", r);
+        return CompactOne.err(r);
     }
 
     static <
@@ -483,6 +478,7 @@ public interface Result<T, E> {
     }
 
     static void logThreadStarvation() {
+        BlockingCalls.record();
         log.warn(
             "Calling blocking operation on subscription. This could lead to thread  starvation."
         );
@@ -511,6 +507,8 @@ public interface Result<T, E> {
         T extends Responses.AggregateResponse, E extends AggregateParamError
     > @Nullable Result<T, E> all(Collection<Result<T, E>> mapper) {
         Result<T, E> result = null;
+        Result<T, E> indexed = null;
+        Set<E> resultErrors = null;
         for (Result<T, E> nextResultToAdd : mapper) {
             if (result == null) {
                 result = nextResultToAdd;
@@ -533,37 +531,115 @@ public interface Result<T, E> {
                 }
             }
 
-            result = addErrors(nextResultToAdd, result);
+            if (result != indexed) {
+                resultErrors = identityErrors(result);
+                indexed = result;
+            }
+
+            result = addErrors(nextResultToAdd, result, resultErrors);
+        }
+
+        return result;
+    }
+
+    /**
+     * {@link #all(Collection)} with the responses after the first present one reduced in a tree on the common
+     * fork-join pool. Errors are added in encounter order as in {@link #all(Collection)}, so the output is the
+     * same provided {@link Responses.AggregateResponse#addAgg} of an aggregate adds each of its parts in order.
+     * The responses of later results are used as intermediate accumulators.
+     */
+    static <
+        T extends Responses.AggregateResponse, E extends AggregateParamError
+    > @Nullable Result<T, E> allParallel(Collection<Result<T, E>> mapper) {
+        List<Result<T, E>> results = mapper instanceof List<Result<T, E>> l ? l : new ArrayList<>(mapper);
+        int firstResponse = 0;
+        while (firstResponse < results.size() && results.get(firstResponse).r().isEmpty()) {
+            firstResponse += 1;
+        }
+
+        if (firstResponse >= results.size() - 1) {
+            return all(results);
+        }
+
+        Result<T, E> result = all(results.subList(0, firstResponse + 1));
+        var rest = results.subList(firstResponse + 1, results.size());
+
+        T response = result.r().get();
+        rest.parallelStream()
+            .filter(r -> r.r().isPresent())
+            .map(r -> r.r().get())
+            .reduce((left, right) -> {
+                left.addAgg(right);
+                return left;
+            })
+            .ifPresent(response::addAgg);
+
+        Set<E> resultErrors = identityErrors(result);
+        Result<T, E> indexed = result;
+        for (Result<T, E> nextResultToAdd : rest) {
+            if (result != indexed) {
+                resultErrors = identityErrors(result);
+                indexed = result;
+            }
+
+            result = addErrors(nextResultToAdd, result, resultErrors);
         }
 
         return result;
     }
 
+    /**
+     * Runs the tasks concurrently, failing on the first error, see {@link ForkAll}.
+     */
+    static <T, E extends SingleError> CompletableFutureResult<List<T>> forkAll(List<Supplier<Result<T, E>>> tasks) {
+        return ForkAll.forkAll(tasks, ForkAll.Policy.SHUTDOWN_ON_FIRST_ERROR, null);
+    }
+
+    /**
+     * Runs the tasks concurrently on virtual threads, with errors reported as an {@link AggregateError} per the
+     * policy. Tasks still running when the deadline passes are cancelled.
+     */
+    static <T, E extends SingleError> CompletableFutureResult<List<T>> forkAll(List<Supplier<Result<T, E>>> tasks,
+                                                                               ForkAll.Policy policy,
+                                                                               @Nullable Instant deadline) {
+        return ForkAll.forkAll(tasks, policy, deadline != null ? new Deadline(deadline) : null);
+    }
+
     static <
         T extends Responses.AggregateResponse, E extends AggregateParamError
     > Result<T, E> addErrors(Result<T, E> toAdd, Result<T, E> toAddTo) {
+        return addErrors(toAdd, toAddTo, identityErrors(toAddTo));
+    }
+
+    /**
+     * @param toAddToErrors the errors of {@code toAddTo} by identity, so each error of {@code toAdd} is checked
+     *                      in constant time.
+     */
+    private static <
+        T extends Responses.AggregateResponse, E extends AggregateParamError
+    > Result<T, E> addErrors(Result<T, E> toAdd, Result<T, E> toAddTo, Set<E> toAddToErrors) {
         if (toAdd.e().isPresent()) {
             if (toAddTo.e().isEmpty()) {
                 return Result.from(toAddTo.r(), toAdd.e());
             } else {
+                E target = toAddTo.e().get();
                 toAdd
-                    .filterErr(
-                        Predicate.not(toFilter ->
-                            toAddTo.hasErr(re -> re == toFilter)
-                        )
-                    )
                     .streamErr()
-                    .forEach(toAddTo.e().get()::addError);
-                //                if (result.e().t instanceof IManyResultTy<E> res) {
-                //                    res!!!!!!!!!!
-                //                }
+                    .filter(toFilter -> !toAddToErrors.contains(toFilter))
+                    .forEach(target::addError);
             }
         }
         return toAddTo;
     }
 
+    private static <E> Set<E> identityErrors(Result<?, E> result) {
+        Set<E> errors = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.streamErr().forEach(errors::add);
+        return errors;
+    }
+
     static <E, T> Result<T, E> empty() {
-        return new One<>(Ok.empty(), Err.empty());
+        return CompactOne.empty();
     }
 
     static <E, T> MutableResult<T, E> mutableEmpty() {
@@ -710,6 +786,17 @@ public interface Result<T, E> {
         return mapError(e -> null);
     }
 
+    /**
+     * Bounds the implicit blocks on an async value, such as {@link #unwrap()}, by the
+     * deadline, see {@link IAsyncResultItem#withDeadline(Deadline)}. Other results are returned as they are.
+     */
+    default Result<T, E> withDeadline(Instant deadline) {
+        if (this.r().t() instanceof IAsyncResultItem<T> async)
+            return Result.from(Ok.ok(async.withDeadline(new Deadline(deadline))), this.e());
+
+        return this;
+    }
+
     default <E1> Result<T, E1> mapError(Function<E, E1> mapper) {
         if (this.e().isMany()) {
             return Result.from(
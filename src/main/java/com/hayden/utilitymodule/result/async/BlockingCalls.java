@@ -0,0 +1,69 @@
+package com.hayden.utilitymodule.result.async;
+
+import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.res_ty.IResultItem;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Counts blocking calls on async results per call site, the first frame outside of the result types, to find
+ * where threads are being starved. Off by default, as each call walks the stack, and turned on by the
+ * {@code utilitymodule.async.track-blocking} system property or {@link #setEnabled(boolean)} while investigating.
+ */
+public final class BlockingCalls {
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final ConcurrentHashMap<String, LongAdder> COUNTS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = Boolean.getBoolean("utilitymodule.async.track-blocking");
+
+    private BlockingCalls() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        BlockingCalls.enabled = enabled;
+    }
+
+    public static void record() {
+        if (!enabled)
+            return;
+
+        COUNTS.computeIfAbsent(callSite(), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return blocking calls so far, keyed by {@code class#method:line}.
+     */
+    public static Map<String, Long> counts() {
+        return COUNTS.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    public static void reset() {
+        COUNTS.clear();
+    }
+
+    private static String callSite() {
+        return WALKER.walk(frames -> frames
+                .filter(f -> !isResultType(f.getDeclaringClass()))
+                .findFirst()
+                .map(f -> "%s#%s:%s".formatted(f.getClassName(), f.getMethodName(), f.getLineNumber()))
+                .orElse("unknown"));
+    }
+
+    private static boolean isResultType(Class<?> c) {
+        return c == BlockingCalls.class
+               || c == Deadline.class
+               || Result.class.isAssignableFrom(c)
+               || IResultItem.class.isAssignableFrom(c)
+               || c.getName().startsWith("reactor.");
+    }
+
+}
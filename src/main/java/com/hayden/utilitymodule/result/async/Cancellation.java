@@ -0,0 +1,123 @@
+package com.hayden.utilitymodule.result.async;
+
+import com.hayden.utilitymodule.result.closable.ClosableCleaner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cancels the work behind an {@link IAsyncResultItem} and every item mapped from it, which share one instance. One
+ * instance can also be passed to several results as a scope, cancelled together. Bound publishers are disposed and
+ * fail with {@link CancellationException}, including ones subscribed after cancelling, and bound futures are
+ * cancelled.
+ * <p>
+ * One created by a result is also registered with {@link ClosableCleaner}, owned by that result and the results
+ * mapped from it, so work nobody consumed is cancelled once they are all collected. Consuming a result, by
+ * subscribing, blocking or taking its publisher or future, hands the work off to the caller, after which only the
+ * caller cancels it. A scope passed in by a caller is only ever cancelled by the caller.
+ */
+public final class Cancellation implements AutoCloseable {
+
+    /**
+     * Created by a result rather than passed in as a scope.
+     */
+    private final boolean owned;
+
+    private volatile boolean handedOff;
+
+    private final Sinks.Empty<Void> signal = Sinks.empty();
+
+    private final Set<CompletableFuture<?>> futures = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    public Cancellation() {
+        this(false);
+    }
+
+    private Cancellation(boolean owned) {
+        this.owned = owned;
+    }
+
+    /**
+     * For a result creating its own, cancelled once the results owning it are collected.
+     */
+    static Cancellation owned() {
+        return new Cancellation(true);
+    }
+
+    /**
+     * Registers a result as an owner, unless the work was handed off or this is a caller's scope.
+     */
+    void ownedBy(Object result) {
+        if (!owned || handedOff)
+            return;
+
+        ClosableCleaner.register(result, this);
+        if (handedOff)
+            ClosableCleaner.release(this);
+    }
+
+    /**
+     * The work was consumed by a caller, which now decides when to cancel it.
+     */
+    void handOff() {
+        if (!owned || handedOff)
+            return;
+
+        handedOff = true;
+        ClosableCleaner.release(this);
+    }
+
+    public <T> Flux<T> bind(Flux<T> flux) {
+        return flux.takeUntilOther(signal.asMono());
+    }
+
+    public <T> Mono<T> bind(Mono<T> mono) {
+        return mono.takeUntilOther(signal.asMono());
+    }
+
+    public <T> CompletableFuture<T> bind(CompletableFuture<T> future) {
+        if (future.isDone())
+            return future;
+
+        futures.add(future);
+        future.whenComplete((res, t) -> futures.remove(future));
+
+        if (cancelled.get())
+            future.cancel(true);
+
+        return future;
+    }
+
+    /**
+     * @return false if already cancelled.
+     */
+    public boolean cancel() {
+        if (!cancelled.compareAndSet(false, true))
+            return false;
+
+        if (owned)
+            ClosableCleaner.release(this);
+
+        signal.tryEmitError(new CancellationException("Async result was cancelled."));
+        futures.forEach(f -> f.cancel(true));
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    @Override
+    public void close() {
+        cancel();
+    }
+
+}
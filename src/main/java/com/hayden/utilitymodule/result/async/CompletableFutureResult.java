@@ -8,7 +8,6 @@ import com.hayden.utilitymodule.result.res_ty.ResultTyResult;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.Optional;
@@ -24,12 +23,30 @@ import static com.hayden.utilitymodule.result.Result.logAsync;
 import static com.hayden.utilitymodule.result.Result.logThreadStarvation;
 
 @Slf4j
-public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean finished) implements IAsyncResultItem<R>, ISingleResultItem<R> {
+public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean finished, Deadline budget,
+                                         Cancellation cancellation)
+        implements IAsyncResultItem<R>, ISingleResultItem<R> {
+
+    public CompletableFutureResult {
+        if (cancellation == null)
+            cancellation = Cancellation.owned();
+
+        cancellation.bind(r);
+        cancellation.ownedBy(this);
+    }
 
     public CompletableFutureResult(CompletableFuture<R> r) {
         this(r, new AtomicBoolean(false));
     }
 
+    public CompletableFutureResult(CompletableFuture<R> r, AtomicBoolean finished) {
+        this(r, finished, null);
+    }
+
+    public CompletableFutureResult(CompletableFuture<R> r, AtomicBoolean finished, Deadline budget) {
+        this(r, finished, budget, Cancellation.owned());
+    }
+
     @Override
     public boolean isZeroOrOneAbstraction() {
         return true;
@@ -39,7 +56,7 @@ public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean f
     public Optional<R> firstOptional() {
         logThreadStarvation();
         try {
-            var v = r.get();
+            var v = getWithinDeadline(r);
             return Optional.ofNullable(v);
         } catch (InterruptedException |
                  ExecutionException e) {
@@ -57,17 +74,27 @@ public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean f
         return new ResultTyResult<>(r);
     }
 
+    /**
+     * The future for a caller consuming it, who the work is handed off to.
+     */
+    @Override
+    public CompletableFuture<R> r() {
+        cancellation.handOff();
+        return r;
+    }
+
     @Override
     public Stream<R> stream() {
-        return Mono.fromFuture(this.r)
+        cancellation.handOff();
+        return bounded(Mono.fromFuture(this.r))
                 .flux()
-                .publishOn(Schedulers.fromExecutor(Executors.newVirtualThreadPerTaskExecutor()))
+                .publishOn(ResultSchedulers.scheduler())
                 .toStream();
     }
 
     @Override
     public IAsyncResultItem<R> swap(Stream<R> toCache) {
-        return new CompletableFutureResult<>(CompletableFuture.completedFuture(toCache.findAny().orElse(null)), new AtomicBoolean(true));
+        return new CompletableFutureResult<>(CompletableFuture.completedFuture(toCache.findAny().orElse(null)), new AtomicBoolean(true), budget, cancellation);
     }
 
     @Override
@@ -77,6 +104,7 @@ public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean f
 
     @Override
     public Mono<R> firstMono() {
+        cancellation.handOff();
         return Mono.fromFuture(this.r);
     }
 
@@ -92,6 +120,7 @@ public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean f
 
     @Override
     public AsyncTyResultStreamWrapper<R> doAsync(Consumer<? super R> consumer) {
+        cancellation.handOff();
         var wrapper = new AsyncTyResultStreamWrapper<>(
                 StreamResultOptions.builder().build(),
                 Mono.fromFuture(r)
@@ -107,12 +136,16 @@ public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean f
     @Override
     public R block() throws ExecutionException, InterruptedException {
         logThreadStarvation();
-        var gotten = r.get();
+        var gotten = getWithinDeadline(r);
         return gotten;
     }
 
     @Override
     public R block(Duration wait) throws ExecutionException, InterruptedException {
+        cancellation.handOff();
+        if (budget != null && budget.remaining().compareTo(wait) <= 0)
+            return budget.get(this.r);
+
         try {
             return this.r.get(wait.getSeconds(), TimeUnit.SECONDS);
         } catch (TimeoutException t) {
@@ -120,9 +153,42 @@ public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean f
         }
     }
 
+    @Override
+    public Optional<Deadline> deadline() {
+        return Optional.ofNullable(budget);
+    }
+
+    @Override
+    public CompletableFutureResult<R> withDeadline(Deadline deadline) {
+        return new CompletableFutureResult<>(r, finished, deadline.min(this.budget), cancellation);
+    }
+
+    @Override
+    public boolean cancel() {
+        return cancellation.cancel();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancellation.isCancelled();
+    }
+
+    private MonoResult<R> toMonoResult() {
+        return new MonoResult<>(Mono.fromFuture(this.r), new AtomicBoolean(false), budget, cancellation);
+    }
+
+    private R getWithinDeadline(CompletableFuture<R> future) throws ExecutionException, InterruptedException {
+        cancellation.handOff();
+        return budget != null ? budget.get(future) : future.get();
+    }
+
+    private Mono<R> bounded(Mono<R> mono) {
+        return budget != null ? budget.bound(mono) : mono;
+    }
+
     @Override
     public IResultItem<R> filter(Predicate<R> p) {
-        return new MonoResult<>(firstMono())
+        return toMonoResult()
                 .filter(p);
     }
 
@@ -133,13 +199,13 @@ public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean f
 
     @Override
     public <T> IResultItem<T> flatMap(Function<R, IResultItem<T>> toMap) {
-        return new MonoResult<>(firstMono())
+        return toMonoResult()
                 .flatMap(toMap);
     }
 
     @Override
     public <T> IResultItem<T> map(Function<R, T> toMap) {
-        return new CompletableFutureResult<>(r.thenApply(toMap));
+        return new CompletableFutureResult<>(r.thenApply(toMap), new AtomicBoolean(false), budget, cancellation);
     }
 
     @Override
@@ -164,7 +230,7 @@ public record CompletableFutureResult<R>(CompletableFuture<R> r, AtomicBoolean f
 
     @Override
     public IResultItem<R> peek(Consumer<? super R> consumer) {
-        return new MonoResult<>(firstMono())
+        return toMonoResult()
                 .peek(consumer);
     }
 
@@ -0,0 +1,84 @@
+package com.hayden.utilitymodule.result.async;
+
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Point in time by which the implicit blocks of an {@link IAsyncResultItem} have to return, set with
+ * {@link IAsyncResultItem#withDeadline(Instant)} and carried through map and flatMap. Each block waits at most
+ * the budget remaining when it starts and fails with a {@link DeadlineExceeded.DeadlineExceededException} once
+ * it runs out.
+ */
+public record Deadline(Instant at) {
+
+    public Deadline {
+        Assert.notNull(at, "Deadline must not be null.");
+    }
+
+    public static Deadline in(Duration duration) {
+        return new Deadline(Instant.now().plus(duration));
+    }
+
+    public Duration remaining() {
+        var remaining = Duration.between(Instant.now(), at);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public boolean expired() {
+        return !Instant.now().isBefore(at);
+    }
+
+    /**
+     * @return the earlier of the two, so a nested deadline never extends an outer one.
+     */
+    public Deadline min(Deadline other) {
+        return other == null || at.isBefore(other.at) ? this : other;
+    }
+
+    public DeadlineExceeded.DeadlineExceededException exceeded() {
+        return new DeadlineExceeded(at).toException();
+    }
+
+    public <T> Mono<T> bound(Mono<T> mono) {
+        return Mono.defer(() -> mono.timeout(remaining()))
+                .onErrorMap(this::isDeadline, e -> exceeded());
+    }
+
+    /**
+     * Bounds the whole sequence rather than the gap between elements.
+     */
+    public <T> Flux<T> bound(Flux<T> flux) {
+        return Flux.defer(() -> flux.timeout(
+                        Mono.delay(remaining()),
+                        next -> Mono.defer(() -> Mono.delay(remaining()))))
+                .onErrorMap(this::isDeadline, e -> exceeded());
+    }
+
+    /**
+     * A future that failed on this deadline itself, as {@link ForkAll} does, fails with the same exception.
+     */
+    public <T> T get(CompletableFuture<T> future) throws ExecutionException, InterruptedException {
+        try {
+            return future.get(remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw exceeded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DeadlineExceeded.DeadlineExceededException exceeded)
+                throw exceeded;
+            throw e;
+        }
+    }
+
+    private boolean isDeadline(Throwable e) {
+        return e instanceof TimeoutException && expired();
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.hayden.utilitymodule.result.async;
+
+import com.hayden.utilitymodule.result.error.SingleError;
+
+import java.time.Instant;
+
+/**
+ * Error of a block on an {@link IAsyncResultItem} that ran past its {@link Deadline}.
+ */
+public record DeadlineExceeded(Instant deadline) implements SingleError {
+
+    public static class DeadlineExceededException extends RuntimeException {
+
+        private final DeadlineExceeded error;
+
+        public DeadlineExceededException(DeadlineExceeded error) {
+            super(error.getMessage());
+            this.error = error;
+        }
+
+        public DeadlineExceeded error() {
+            return error;
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        return "Deadline %s exceeded while blocking on async result.".formatted(deadline);
+    }
+
+    public DeadlineExceededException toException() {
+        return new DeadlineExceededException(this);
+    }
+
+}
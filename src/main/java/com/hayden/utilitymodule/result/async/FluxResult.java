@@ -1,22 +1,23 @@
 package com.hayden.utilitymodule.result.async;
 
+import com.hayden.utilitymodule.result.Result;
 import com.hayden.utilitymodule.result.res_many.IManyResultItem;
 import com.hayden.utilitymodule.result.res_many.StreamResultItem;
 import com.hayden.utilitymodule.result.res_single.ISingleResultItem;
+import com.hayden.utilitymodule.result.res_support.many.stream.StreamResult;
 import com.hayden.utilitymodule.result.res_support.many.stream.StreamResultOptions;
 import com.hayden.utilitymodule.result.res_ty.IResultItem;
 import com.hayden.utilitymodule.result.res_ty.ResultTyResult;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -32,14 +33,46 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
 
     private final AtomicBoolean finished = new AtomicBoolean(false);
 
+    private final Deadline deadline;
+
+    private final Cancellation cancellation;
+
     private Flux<R> r;
 
     public FluxResult(Flux<R> r) {
-        this.r = r;
+        this(r, null);
+    }
+
+    public FluxResult(Flux<R> r, Deadline deadline) {
+        this(r, deadline, Cancellation.owned());
+    }
+
+    /**
+     * @param cancellation the scope the flux can be cancelled with, possibly shared with other results.
+     */
+    public FluxResult(Flux<R> r, Deadline deadline, Cancellation cancellation) {
+        this(deadline, cancellation);
+        this.r = cancellation.bind(r);
+    }
+
+    private FluxResult(Deadline deadline, Cancellation cancellation) {
+        this.deadline = deadline;
+        this.cancellation = cancellation;
+        cancellation.ownedBy(this);
+    }
+
+    /**
+     * For a flux derived from one already bound to {@code cancellation}, which is not bound again so mapping does
+     * not stack another layer per step.
+     */
+    private static <R> FluxResult<R> derived(Flux<R> bound, Deadline deadline, Cancellation cancellation) {
+        var derived = new FluxResult<R>(deadline, cancellation);
+        derived.r = bound;
+        return derived;
     }
 
     public void swap(Flux<R> toSwap) {
-        this.r = toSwap;
+        this.r = cancellation.bind(toSwap);
     }
 
 
@@ -55,23 +88,42 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
 
     @Override
     public Stream<R> stream() {
-        return r.subscribeOn(Schedulers.fromExecutor(Executors.newVirtualThreadPerTaskExecutor()))
+        return bounded().subscribeOn(ResultSchedulers.scheduler())
                 .toStream();
     }
 
+    public <E> StreamResult<R, E> toStreamResult() {
+        return toStreamResult(StreamResultOptions.builder().build());
+    }
+
+    /**
+     * Requests values in batches of maxSize, or Reactor's small buffer size when it is not set, so the
+     * consuming thread only blocks while waiting on the next batch.
+     */
+    public <E> StreamResult<R, E> toStreamResult(StreamResultOptions options) {
+        int prefetch = options.maxSize() > 0 ? options.maxSize() : Queues.SMALL_BUFFER_SIZE;
+        return new StreamResult<>(
+                bounded().subscribeOn(ResultSchedulers.scheduler())
+                        .<Result<R, E>>map(Result::ok)
+                        .toStream(prefetch),
+                options);
+    }
+
     @Override
     public IAsyncResultItem<R> swap(Stream<R> toCache) {
-        this.r = Flux.fromStream(toCache);
+        this.r = cancellation.bind(Flux.fromStream(toCache));
         return this;
     }
 
     @Override
     public Flux<R> flux() {
+        cancellation.handOff();
         return r;
     }
 
     @Override
     public Mono<R> firstMono() {
+        cancellation.handOff();
         return r.collectList()
                 .flatMap(l -> !l.isEmpty()
                               ? Mono.justOrEmpty(l.getFirst())
@@ -81,7 +133,7 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
     @Override
     public ISingleResultItem<R> single() {
         logThreadStarvation();
-        var created = this.r.toStream().toList();
+        var created = bounded().toStream().toList();
 
         if (created.size() > 1) {
             log.warn("Called single() on flux result with more than one value. Returning first.");
@@ -99,6 +151,7 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
 
     @Override
     public IAsyncResultItem.AsyncTyResultStreamWrapper<R> doAsync(Consumer<? super R> consumer) {
+        cancellation.handOff();
         var wrapper = new AsyncTyResultStreamWrapper<>(
                 StreamResultOptions.builder().build(),
                 this.r.doOnComplete(() -> finished.set(true)),
@@ -125,33 +178,65 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
     public R blockFirst() {
         logFluxSingle();
         logThreadStarvation();
-        return r.blockFirst();
+        return bounded().blockFirst();
     }
 
     @Override
     public R blockLast() {
         logFluxSingle();
         logThreadStarvation();
-        return r.blockLast();
+        return bounded().blockLast();
     }
 
     @Override
     public List<R> blockAll() {
         logThreadStarvation();
-        return r.collectList().block();
+        return bounded().collectList().block();
     }
 
     @Override
     public List<R> blockAll(Duration duration) {
         logThreadStarvation();
-        return r.buffer(duration)
+        return bounded().buffer(duration)
                 .blockFirst();
     }
 
     @Override
     public R block(Duration wait) throws ExecutionException, InterruptedException {
         logFluxSingle();
-        return this.r.blockFirst(wait);
+        return bounded().blockFirst(wait);
+    }
+
+    @Override
+    public Optional<Deadline> deadline() {
+        return Optional.ofNullable(deadline);
+    }
+
+    @Override
+    public FluxResult<R> withDeadline(Deadline deadline) {
+        return derived(r, deadline.min(this.deadline), cancellation);
+    }
+
+    @Override
+    public boolean cancel() {
+        return cancellation.cancel();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancellation.isCancelled();
+    }
+
+    private <T> FluxResult<T> next(Flux<T> flux) {
+        return derived(flux, deadline, cancellation);
+    }
+
+    /**
+     * The flux for a caller consuming it, who the work is handed off to.
+     */
+    private Flux<R> bounded() {
+        cancellation.handOff();
+        return deadline != null ? deadline.bound(r) : r;
     }
 
     private static void logFluxSingle() {
@@ -160,7 +245,7 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
 
     @Override
     public IResultItem<R> filter(Predicate<R> p) {
-        return new FluxResult<>(r.filter(p));
+        return next(r.filter(p));
     }
 
     @Override
@@ -170,7 +255,7 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
 
     @Override
     public <T> IManyResultItem<T> flatMap(Function<R, IResultItem<T>> toMap) {
-        return new FluxResult<>(
+        return next(
                 r.map(toMap)
                         .flatMap(IResultItem::flux)
         );
@@ -178,18 +263,18 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
 
     @Override
     public IManyResultItem<R> add(R r) {
-        return new FluxResult<>(Flux.concat(this.r, Flux.just(r)));
+        return next(Flux.concat(this.r, Flux.just(r)));
     }
 
     @Override
     public IManyResultItem<R> concat(IManyResultItem<R> r) {
-        return new FluxResult<>(Flux.concat(this.r, r.flux()));
+        return next(Flux.concat(this.r, r.flux()));
     }
 
 
     @Override
     public <T> IResultItem<T> map(Function<R, T> toMap) {
-        return new FluxResult<>(r.map(toMap));
+        return next(r.map(toMap));
     }
 
     @Override
@@ -209,7 +294,7 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
 
     @Override
     public IResultItem<R> peek(Consumer<? super R> consumer) {
-        return new FluxResult<>(this.r.doOnNext(consumer));
+        return next(this.r.doOnNext(consumer));
     }
 
     @Override
@@ -228,6 +313,7 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
     }
 
     public Flux<R> r() {
+        cancellation.handOff();
         return r;
     }
 
@@ -242,23 +328,25 @@ public class FluxResult<R> implements IAsyncManyResultItem<R> {
             return false;
         var that = (FluxResult) obj;
         return Objects.equals(this.r, that.r) &&
-               Objects.equals(this.finished, that.finished);
+               Objects.equals(this.finished, that.finished) &&
+               Objects.equals(this.deadline, that.deadline);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(r, finished);
+        return Objects.hash(r, finished, deadline);
     }
 
     @Override
     public String toString() {
         return "FluxResult[" +
                "r=" + r + ", " +
-               "finished=" + finished + ']';
+               "finished=" + finished + ", " +
+               "deadline=" + deadline + ']';
     }
 
     @Override
     public void swap(List<R> toSwap) {
-        this.r = Flux.fromIterable(toSwap);
+        this.r = cancellation.bind(Flux.fromIterable(toSwap));
     }
 }
@@ -0,0 +1,141 @@
+package com.hayden.utilitymodule.result.async;
+
+import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.agg.AggregateError;
+import com.hayden.utilitymodule.result.error.SingleError;
+import jakarta.annotation.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Fans out independent results on virtual threads in a {@link StructuredTaskScope}, see
+ * {@link Result#forkAll(List, Policy, java.time.Instant)}. The scope is owned by a virtual thread of its own, so
+ * the caller does not block, and cancelling the returned future interrupts it, which cancels every task still
+ * running.
+ */
+public final class ForkAll {
+
+    public enum Policy {
+        /**
+         * Cancels the remaining tasks on the first error, which is the only one reported.
+         */
+        SHUTDOWN_ON_FIRST_ERROR,
+        /**
+         * Runs every task and reports all of their errors.
+         */
+        COLLECT_ALL_ERRORS
+    }
+
+    public static class ForkAllException extends RuntimeException {
+
+        private final AggregateError.StdAggregateError error;
+
+        public ForkAllException(AggregateError.StdAggregateError error) {
+            super(error.getMessage());
+            this.error = error;
+        }
+
+        public AggregateError.StdAggregateError error() {
+            return error;
+        }
+    }
+
+    private ForkAll() {}
+
+    /**
+     * @return the values in the order of {@code tasks}, null for an empty result. Fails with
+     * {@link ForkAllException} when a task returns an error or throws, and with
+     * {@link DeadlineExceeded.DeadlineExceededException} when the deadline passes first.
+     */
+    public static <T, E extends SingleError> CompletableFutureResult<List<T>> forkAll(List<Supplier<Result<T, E>>> tasks,
+                                                                                       Policy policy,
+                                                                                       @Nullable Deadline deadline) {
+        Assert.notNull(tasks, "Tasks must not be null.");
+        Assert.notNull(policy, "Policy must not be null.");
+        var future = new CompletableFuture<List<T>>();
+        var owner = Thread.ofVirtual()
+                .name("result-fork-all")
+                .start(() -> {
+                    try {
+                        future.complete(join(tasks, policy, deadline));
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+
+        future.whenComplete((res, t) -> {
+            if (future.isCancelled())
+                owner.interrupt();
+        });
+
+        return new CompletableFutureResult<>(future, new AtomicBoolean(false), deadline);
+    }
+
+    private static <T, E extends SingleError> List<T> join(List<Supplier<Result<T, E>>> tasks,
+                                                           Policy policy,
+                                                           @Nullable Deadline deadline) throws InterruptedException {
+        try (var scope = new ResultScope<T, E>(policy)) {
+            var subtasks = tasks.stream()
+                    .map(task -> scope.fork(task::get))
+                    .toList();
+
+            if (deadline != null)
+                scope.joinUntil(deadline.at());
+            else
+                scope.join();
+
+            if (!scope.errors.isEmpty())
+                throw new ForkAllException(
+                        new AggregateError.StandardAggregateError(new LinkedHashSet<>(scope.errors)));
+
+            return subtasks.stream()
+                    .map(subtask -> subtask.get().r().get())
+                    .toList();
+        } catch (TimeoutException e) {
+            throw deadline.exceeded();
+        }
+    }
+
+    private static final class ResultScope<T, E extends SingleError> extends StructuredTaskScope<Result<T, E>> {
+
+        private final Policy policy;
+
+        private final Queue<SingleError> errors = new ConcurrentLinkedQueue<>();
+
+        private final AtomicBoolean failed = new AtomicBoolean(false);
+
+        private ResultScope(Policy policy) {
+            this.policy = policy;
+        }
+
+        @Override
+        protected void handleComplete(Subtask<? extends Result<T, E>> subtask) {
+            switch (subtask.state()) {
+                case SUCCESS -> subtask.get().streamErr().forEach(this::fail);
+                case FAILED -> fail(SingleError.fromE(subtask.exception()));
+                case UNAVAILABLE -> {}
+            }
+        }
+
+        private void fail(SingleError error) {
+            if (policy == Policy.SHUTDOWN_ON_FIRST_ERROR) {
+                if (failed.compareAndSet(false, true)) {
+                    errors.add(error);
+                    shutdown();
+                }
+            } else {
+                errors.add(error);
+            }
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.hayden.utilitymodule.result.async;
 
+import com.hayden.utilitymodule.result.Result;
 import com.hayden.utilitymodule.result.res_many.IManyResultItem;
 
 import java.time.Duration;
@@ -18,6 +19,25 @@ public interface IAsyncManyResultItem<T> extends IAsyncResultItem<T>, IManyResul
         return blockAll();
     }
 
+    /**
+     * Blocks like {@link #blockAll()}, with an expired deadline as the error instead of an exception.
+     */
+    default Result<List<T>, DeadlineExceeded> awaitAll() {
+        try {
+            return Result.ok(blockAll());
+        } catch (DeadlineExceeded.DeadlineExceededException e) {
+            return Result.err(e.error());
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    IAsyncManyResultItem<T> withDeadline(Deadline deadline);
+
     default T blockFirst() throws ExecutionException, InterruptedException {
         return block();
     }
@@ -1,9 +1,9 @@
 package com.hayden.utilitymodule.result.async;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -20,7 +20,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 public interface IAsyncResultItem<R> extends IResultItem<R>, CachableStream<R, IAsyncResultItem<R>> {
 
@@ -29,7 +28,7 @@ public interface IAsyncResultItem<R> extends IResultItem<R>, CachableStream<R, I
 
         public AsyncTyResultStreamWrapper(StreamResultOptions options, Flux<R> underlying, IAsyncResultItem<R> res) {
             this(asyncVirtual(options),
-                    underlying.publishOn(Schedulers.fromExecutor(Executors.newVirtualThreadPerTaskExecutor())).toStream(),
+                    underlying.publishOn(ResultSchedulers.scheduler()).toStream(),
                     res);
         }
 
@@ -79,6 +78,50 @@ public interface IAsyncResultItem<R> extends IResultItem<R>, CachableStream<R, I
         return block();
     }
 
+    /**
+     * @return the deadline bounding the implicit blocks of this item and of the items mapped from it.
+     */
+    default Optional<Deadline> deadline() {
+        return Optional.empty();
+    }
+
+    /**
+     * Bounds every implicit block, such as {@link #get()}, {@link #optional()} or {@link #block()}, by the
+     * deadline, which fail with {@link DeadlineExceeded.DeadlineExceededException} once it passes. An earlier
+     * deadline already set is kept.
+     */
+    IAsyncResultItem<R> withDeadline(Deadline deadline);
+
+    default IAsyncResultItem<R> withDeadline(Instant deadline) {
+        return withDeadline(new Deadline(deadline));
+    }
+
+    /**
+     * Stops the work behind this item, shared with the items it was mapped from and to. Blocks on it fail with
+     * {@link java.util.concurrent.CancellationException}.
+     *
+     * @return false if already cancelled.
+     */
+    boolean cancel();
+
+    boolean isCancelled();
+
+    /**
+     * Blocks like {@link #block()}, with an expired deadline as the error instead of an exception.
+     */
+    default Result<R, DeadlineExceeded> await() {
+        try {
+            return Result.ok(block());
+        } catch (DeadlineExceeded.DeadlineExceededException e) {
+            return Result.err(e.error());
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
     default boolean isAsyncSub() {
         return true;
     }
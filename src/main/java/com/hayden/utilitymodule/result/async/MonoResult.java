@@ -6,17 +6,14 @@ import com.hayden.utilitymodule.result.res_single.ISingleResultItem;
 import com.hayden.utilitymodule.result.res_support.many.stream.StreamResultOptions;
 import com.hayden.utilitymodule.result.res_ty.IResultItem;
 import com.hayden.utilitymodule.result.res_ty.ResultTyResult;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,14 +25,48 @@ import static com.hayden.utilitymodule.result.Result.logAsync;
 import static com.hayden.utilitymodule.result.Result.logThreadStarvation;
 
 @Slf4j
-@AllArgsConstructor
 public class MonoResult<R> implements IAsyncResultItem<R>, ISingleResultItem<R> {
 
     Mono<R> r;
-    AtomicBoolean finished = new AtomicBoolean(false);
+    AtomicBoolean finished;
+    Deadline deadline;
+    Cancellation cancellation;
 
     public MonoResult(Mono<R> r) {
-        this.r = r;
+        this(r, new AtomicBoolean(false));
+    }
+
+    public MonoResult(Mono<R> r, Deadline deadline) {
+        this(r, new AtomicBoolean(false), deadline, Cancellation.owned());
+    }
+
+    public MonoResult(Mono<R> r, AtomicBoolean finished) {
+        this(r, finished, null, Cancellation.owned());
+    }
+
+    /**
+     * @param cancellation the scope the mono can be cancelled with, possibly shared with other results.
+     */
+    public MonoResult(Mono<R> r, AtomicBoolean finished, Deadline deadline, Cancellation cancellation) {
+        this(finished, deadline, cancellation);
+        this.r = cancellation.bind(r);
+    }
+
+    private MonoResult(AtomicBoolean finished, Deadline deadline, Cancellation cancellation) {
+        this.finished = finished;
+        this.deadline = deadline;
+        this.cancellation = cancellation;
+        cancellation.ownedBy(this);
+    }
+
+    /**
+     * For a mono derived from one already bound to {@code cancellation}, which is not bound again so mapping does
+     * not stack another layer per step.
+     */
+    private static <R> MonoResult<R> derived(Mono<R> bound, AtomicBoolean finished, Deadline deadline, Cancellation cancellation) {
+        var derived = new MonoResult<R>(finished, deadline, cancellation);
+        derived.r = bound;
+        return derived;
     }
 
     @Override
@@ -46,7 +77,7 @@ public class MonoResult<R> implements IAsyncResultItem<R>, ISingleResultItem<R>
     @Override
     public Optional<R> firstOptional() {
         logThreadStarvation();
-        var l = Lists.newArrayList(r.flux().toIterable());
+        var l = Lists.newArrayList(bounded().flux().toIterable());
         if (l.size() > 1) {
             log.error("Called optional on stream result with more than one value. Returning first.");
         }
@@ -69,16 +100,19 @@ public class MonoResult<R> implements IAsyncResultItem<R>, ISingleResultItem<R>
     @Override
     public Stream<R> stream() {
         logThreadStarvation();
-        return flux().toStream();
+        return bounded().flux()
+                .subscribeOn(ResultSchedulers.scheduler())
+                .toStream();
     }
 
     @Override
     public IAsyncResultItem<R> swap(Stream<R> toCache) {
-        return new FluxResult<>(Flux.fromStream(toCache));
+        return new FluxResult<>(Flux.fromStream(toCache), deadline, cancellation);
     }
 
     @Override
     public Flux<R> flux() {
+        cancellation.handOff();
         return r.flux();
     }
 
@@ -97,6 +131,7 @@ public class MonoResult<R> implements IAsyncResultItem<R>, ISingleResultItem<R>
 
     @Override
     public IAsyncResultItem.AsyncTyResultStreamWrapper<R> doAsync(Consumer<? super R> consumer) {
+        cancellation.handOff();
         var wrapper = new AsyncTyResultStreamWrapper<>(
                 StreamResultOptions.builder()
                         .build(),
@@ -111,17 +146,49 @@ public class MonoResult<R> implements IAsyncResultItem<R>, ISingleResultItem<R>
     @Override
     public R block() throws ExecutionException, InterruptedException {
         logThreadStarvation();
-        return r.block();
+        return bounded().block();
     }
 
     @Override
     public R block(Duration wait) throws ExecutionException, InterruptedException {
-        return this.r.block(wait);
+        return bounded().block(wait);
+    }
+
+    @Override
+    public Optional<Deadline> deadline() {
+        return Optional.ofNullable(deadline);
+    }
+
+    @Override
+    public MonoResult<R> withDeadline(Deadline deadline) {
+        return derived(r, finished, deadline.min(this.deadline), cancellation);
+    }
+
+    @Override
+    public boolean cancel() {
+        return cancellation.cancel();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancellation.isCancelled();
+    }
+
+    private <T> MonoResult<T> next(Mono<T> mono) {
+        return derived(mono, new AtomicBoolean(false), deadline, cancellation);
+    }
+
+    /**
+     * The mono for a caller consuming it, who the work is handed off to.
+     */
+    private Mono<R> bounded() {
+        cancellation.handOff();
+        return deadline != null ? deadline.bound(r) : r;
     }
 
     @Override
     public IResultItem<R> filter(Predicate<R> p) {
-        return new MonoResult<>(r.filter(p));
+        return next(r.filter(p));
     }
 
     @Override
@@ -131,18 +198,18 @@ public class MonoResult<R> implements IAsyncResultItem<R>, ISingleResultItem<R>
 
     @Override
     public <T> IResultItem<T> flatMap(Function<R, IResultItem<T>> toMap) {
-        return new MonoResult<>(r.map(toMap).flatMap(IResultItem::firstMono));
+        return next(r.map(toMap).flatMap(IResultItem::firstMono));
     }
 
     @Override
     public <T> IResultItem<T> map(Function<R, T> toMap) {
-        return new MonoResult<>(r.map(toMap));
+        return next(r.map(toMap));
     }
 
     @Override
     public Optional<R> optional() {
         logThreadStarvation();
-        return r.blockOptional();
+        return bounded().blockOptional();
     }
 
     @Override
@@ -162,7 +229,7 @@ public class MonoResult<R> implements IAsyncResultItem<R>, ISingleResultItem<R>
 
     @Override
     public IResultItem<R> peek(Consumer<? super R> consumer) {
-        return new MonoResult<>(this.r.doOnNext(consumer));
+        return next(this.r.doOnNext(consumer));
     }
 
     @Override
@@ -176,6 +243,7 @@ public class MonoResult<R> implements IAsyncResultItem<R>, ISingleResultItem<R>
     }
 
     public Mono<R> r() {
+        cancellation.handOff();
         return r;
     }
 
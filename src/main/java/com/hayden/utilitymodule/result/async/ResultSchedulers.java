@@ -0,0 +1,141 @@
+package com.hayden.utilitymodule.result.async;
+
+import org.springframework.util.Assert;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor and Reactor {@link Scheduler} shared by {@link FluxResult}, {@link MonoResult},
+ * {@link CompletableFutureResult} and async stream caches, in place of an executor per call. Backed by virtual
+ * threads by default, {@link #useBoundedElastic()} switches to a pool bounded like Reactor's bounded elastic
+ * scheduler and {@link #use(ExecutorService)} plugs in any executor. Tasks are counted while queued and while
+ * running, see {@link #queuedTasks()} and {@link #activeTasks()}.
+ */
+public final class ResultSchedulers {
+
+    private record Registered(CountingExecutor executor, Scheduler scheduler, boolean owned) {
+
+        static Registered of(ExecutorService executorService, boolean owned) {
+            var executor = new CountingExecutor(executorService);
+            return new Registered(executor, Schedulers.fromExecutorService(executor, "result"), owned);
+        }
+    }
+
+    private static volatile Registered registered = virtual();
+
+    private ResultSchedulers() {}
+
+    public static ExecutorService executor() {
+        return registered.executor();
+    }
+
+    public static Scheduler scheduler() {
+        return registered.scheduler();
+    }
+
+    public static int activeTasks() {
+        return registered.executor().active.get();
+    }
+
+    public static int queuedTasks() {
+        return registered.executor().queued.get();
+    }
+
+    public static void useVirtualThreads() {
+        replace(virtual());
+    }
+
+    public static void useBoundedElastic() {
+        var pool = new ThreadPoolExecutor(
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE),
+                Thread.ofPlatform().name("result-bounded-elastic-", 0).daemon().factory());
+        pool.allowCoreThreadTimeOut(true);
+        replace(Registered.of(pool, true));
+    }
+
+    /**
+     * Registers an executor owned by the caller, which is not shut down when it is replaced.
+     */
+    public static void use(ExecutorService executorService) {
+        Assert.notNull(executorService, "Executor must not be null.");
+        replace(Registered.of(executorService, false));
+    }
+
+    /**
+     * Tasks already submitted to the previous executor still run, as it is only shut down, not interrupted.
+     */
+    private static synchronized void replace(Registered next) {
+        var previous = registered;
+        registered = next;
+        if (previous.owned())
+            previous.executor().shutdown();
+    }
+
+    private static Registered virtual() {
+        return Registered.of(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("result-", 0).factory()), true);
+    }
+
+    private static final class CountingExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+
+        private final AtomicInteger queued = new AtomicInteger();
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        CountingExecutor(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            queued.incrementAndGet();
+            try {
+                delegate.execute(() -> {
+                    queued.decrementAndGet();
+                    active.incrementAndGet();
+                    try {
+                        command.run();
+                    } finally {
+                        active.decrementAndGet();
+                    }
+                });
+            } catch (RuntimeException e) {
+                queued.decrementAndGet();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.hayden.utilitymodule.result.closable;
+
+import com.hayden.utilitymodule.result.ClosableResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closes a resource once every owner registered for it has been garbage collected, unless it was closed or handed
+ * to a caller first, see {@link #release(AutoCloseable)}. Owners are the objects a resource is only reachable
+ * through, such as a {@link com.hayden.utilitymodule.result.res_ty.ClosableResult}, and several may share one
+ * resource as results are mapped. The number closed this way is counted by {@link #reclaimed()}.
+ * <p>
+ * Only the points that open a resource register it, and a resource is closed on a virtual thread of its own rather
+ * than the shared cleaner thread, as closing may block.
+ */
+@Slf4j
+public final class ClosableCleaner {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final ConcurrentHashMap<Identity, Tracked> TRACKED = new ConcurrentHashMap<>();
+
+    private static final LongAdder RECLAIMED = new LongAdder();
+
+    private static final LongAdder FAILED = new LongAdder();
+
+    private record Identity(AutoCloseable resource) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity that && that.resource == resource;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(resource);
+        }
+    }
+
+    /**
+     * Held by the cleaning actions, never by the owners, so owners stay collectable.
+     */
+    private static final class Tracked {
+
+        private final Identity identity;
+
+        private final AtomicInteger owners = new AtomicInteger();
+
+        private volatile boolean released;
+
+        private Tracked(Identity identity) {
+            this.identity = identity;
+        }
+
+        private void ownerCollected() {
+            if (owners.decrementAndGet() != 0)
+                return;
+
+            TRACKED.remove(identity, this);
+            if (released)
+                return;
+
+            // close() may block, such as an executor waiting on its tasks, which would stall the shared cleaner thread.
+            Thread.ofVirtual().name("closable-cleaner-close").start(this::close);
+        }
+
+        private void close() {
+            try {
+                identity.resource().close();
+                RECLAIMED.increment();
+                log.warn("Closed {} after its owners were collected without closing it.", identity.resource());
+            } catch (Exception e) {
+                FAILED.increment();
+                log.error("Failed to close {} after its owners were collected.", identity.resource(), e);
+            } finally {
+                ClosableResult.closableMonitor.registerClosed(identity.resource());
+            }
+        }
+    }
+
+    private ClosableCleaner() {}
+
+    public static void register(Object owner, AutoCloseable resource) {
+        var tracked = TRACKED.compute(new Identity(resource), (k, prev) -> {
+            var t = prev == null || prev.released ? new Tracked(k) : prev;
+            t.owners.incrementAndGet();
+            return t;
+        });
+        CLEANER.register(owner, tracked::ownerCollected);
+    }
+
+    /**
+     * Stops tracking a resource that was closed, or handed to a caller that now owns it.
+     */
+    public static void release(AutoCloseable resource) {
+        var tracked = TRACKED.remove(new Identity(resource));
+        if (tracked != null)
+            tracked.released = true;
+    }
+
+    public static long reclaimed() {
+        return RECLAIMED.sum();
+    }
+
+    public static long reclaimFailures() {
+        return FAILED.sum();
+    }
+
+    public static int tracked() {
+        return TRACKED.size();
+    }
+
+}
@@ -1,53 +1,124 @@
 package com.hayden.utilitymodule.result.closable;
 
-import lombok.SneakyThrows;
+import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
 
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
+/**
+ * Tracks open closables by identity in a concurrent map, so registering and closing one is constant time and
+ * never blocks. Each resource records when it was opened, and one in {@link #leakSampleRate()} also records where,
+ * for {@link #leaks(Duration)}. The sample rate starts from the {@code utilitymodule.closable.leak-sample-rate}
+ * system property, 100 by default, and 0 records no allocation sites.
+ */
 @Slf4j
 public class ClosableMonitor {
 
-    Queue<AutoCloseable> q = new ConcurrentLinkedQueue<>();
+    /**
+     * Compares the resource by identity, as closables such as records may be equal without being the same.
+     */
+    private record Identity(AutoCloseable resource) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity that && that.resource == resource;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(resource);
+        }
+    }
+
+    private record Opened(long openedAt, @Nullable Throwable allocationSite) {}
+
+    /**
+     * @param allocationSite where the resource was opened, when it was sampled.
+     */
+    public record Leak(AutoCloseable resource, Duration open, @Nullable Throwable allocationSite) {}
+
+    private final ConcurrentHashMap<Identity, Opened> open = new ConcurrentHashMap<>();
+
+    private volatile int leakSampleRate = Integer.getInteger("utilitymodule.closable.leak-sample-rate", 100);
+
+    public int leakSampleRate() {
+        return leakSampleRate;
+    }
+
+    public void setLeakSampleRate(int leakSampleRate) {
+        Assert.isTrue(leakSampleRate >= 0, "Leak sample rate must not be negative.");
+        this.leakSampleRate = leakSampleRate;
+    }
 
     public <T extends AutoCloseable> void afterClose(Supplier<T> e) {
         var ret = e.get();
         warningLogger(ret);
-        synchronized (ret) {
-            q.removeIf(c -> c == ret);
-        }
+        open.remove(new Identity(ret));
     }
 
     public <T extends AutoCloseable> void onInitialize(Supplier<T> e) {
         var ret = e.get();
         warningLogger(ret);
-        synchronized (ret) {
-            q.removeIf(c -> c == ret);
-            q.add(ret);
-        }
+        open.put(new Identity(ret), new Opened(System.nanoTime(), allocationSite()));
     }
 
-    public synchronized boolean hasOpenResources() {
-        return !q.isEmpty();
+    public boolean hasOpenResources() {
+        return !open.isEmpty();
     }
 
-    public synchronized void registerClosed(AutoCloseable closeable) {
-        q.stream().filter(a -> a == closeable).findFirst()
-                .ifPresent(a -> q.remove(a));
+    public void registerClosed(AutoCloseable closeable) {
+        open.remove(new Identity(closeable));
     }
 
-    @SneakyThrows
-    public synchronized void closeAll() {
-        q.forEach(a -> {
-            try {
-                a.close();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+    /**
+     * @return the resources open for at least {@code threshold}, longest open first.
+     */
+    public List<Leak> leaks(Duration threshold) {
+        long now = System.nanoTime();
+        return open.entrySet().stream()
+                .map(e -> new Leak(e.getKey().resource(), Duration.ofNanos(now - e.getValue().openedAt()), e.getValue().allocationSite()))
+                .filter(l -> l.open().compareTo(threshold) >= 0)
+                .sorted(Comparator.comparing(Leak::open).reversed())
+                .toList();
+    }
+
+    public void logLeaks(Duration threshold) {
+        leaks(threshold).forEach(l -> {
+            if (l.allocationSite() != null)
+                log.warn("Closable {} has been open for {}, opened at:", l.resource(), l.open(), l.allocationSite());
+            else
+                log.warn("Closable {} has been open for {}.", l.resource(), l.open());
+        });
+    }
+
+    /**
+     * Each resource is removed before it is closed, so resources opened concurrently are left open and a
+     * resource is never closed twice.
+     */
+    public void closeAll() {
+        open.keySet().forEach(i -> {
+            if (open.remove(i) != null) {
+                try {
+                    i.resource().close();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
             }
         });
-        q.clear();
+    }
+
+    private @Nullable Throwable allocationSite() {
+        int rate = leakSampleRate;
+        if (rate == 0 || ThreadLocalRandom.current().nextInt(rate) != 0)
+            return null;
+
+        return new Throwable("Closable allocation site");
     }
 
     private <T extends AutoCloseable> void warningLogger(T ret) {
@@ -35,7 +35,7 @@ public interface Err<R> extends IResultItem<R> {
     }
 
     static <R> Err<R> empty() {
-        return new StdErr<>(Optional.empty());
+        return StdErr.empty();
     }
 
     static <R> Err<R> err(R r) {
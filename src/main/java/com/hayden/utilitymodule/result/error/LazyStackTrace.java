@@ -0,0 +1,66 @@
+package com.hayden.utilitymodule.result.error;
+
+import java.util.Objects;
+
+/**
+ * The stack trace of a {@link Throwable}, rendered by {@link StackTraces} on the first {@link #get()} and kept.
+ * Equal to another for the same throwable, or for a throwable of the same class and message thrown from the same
+ * frame, so errors holding one compare without rendering either trace.
+ */
+public final class LazyStackTrace {
+
+    private final Throwable throwable;
+
+    private volatile String rendered;
+
+    public LazyStackTrace(Throwable throwable) {
+        this.throwable = throwable;
+    }
+
+    public Throwable throwable() {
+        return throwable;
+    }
+
+    public String get() {
+        var r = rendered;
+        if (r == null)
+            rendered = r = SingleError.parseStackTraceToString(throwable);
+
+        return r;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof LazyStackTrace that))
+            return false;
+        if (throwable == that.throwable)
+            return true;
+        if (throwable == null || that.throwable == null)
+            return false;
+
+        return throwable.getClass() == that.throwable.getClass()
+                && Objects.equals(throwable.getMessage(), that.throwable.getMessage())
+                && Objects.equals(topFrame(throwable), topFrame(that.throwable));
+    }
+
+    @Override
+    public int hashCode() {
+        return throwable == null ? 0 : Objects.hash(throwable.getClass(), throwable.getMessage(), topFrame(throwable));
+    }
+
+    private static StackTraceElement topFrame(Throwable throwable) {
+        var frames = throwable.getStackTrace();
+        return frames.length == 0 ? null : frames[0];
+    }
+
+    /**
+     * The throwable rather than its trace, so logging the error holding it does not render the trace.
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(throwable);
+    }
+
+}
@@ -2,18 +2,18 @@ package com.hayden.utilitymodule.result.error;
 
 import io.micrometer.common.util.StringUtils;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 public interface SingleError {
 
+    /**
+     * Formats eagerly, limited by {@link StackTraces}. Prefer {@link #fromE(Throwable)} or a logger's throwable
+     * argument where the result may never be read.
+     */
     static String parseStackTraceToString(StackTraceElement[] e) {
-        return Arrays.stream(e)
-                .map(StackTraceElement::toString).collect(Collectors.joining(System.lineSeparator()));
+        return StackTraces.format(e);
     }
 
     static String parseStackTraceToString(Throwable e) {
-        return parseStackTraceToString(e.getStackTrace());
+        return StackTraces.format(e);
     }
 
     default boolean isError() {
@@ -25,7 +25,7 @@ public interface SingleError {
     }
 
     static SingleError fromE(Throwable error) {
-        return new StandardError("%s\n%s".formatted(error.getMessage(), parseStackTraceToString(error.getStackTrace())));
+        return new ThrowableError(error);
     }
 
     static SingleError fromE(Throwable error, String cause) {
@@ -0,0 +1,57 @@
+package com.hayden.utilitymodule.result.error;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Renders stack traces into error messages. At most {@link #maxDepth()} frames are rendered, all of them when 0,
+ * and nothing is rendered while {@link #isStackless()}, for hot paths where errors are usually dropped. Both
+ * start from the {@code utilitymodule.errors.stack-depth} and {@code utilitymodule.errors.stackless} system
+ * properties.
+ */
+public final class StackTraces {
+
+    private static volatile boolean stackless = Boolean.getBoolean("utilitymodule.errors.stackless");
+
+    private static volatile int maxDepth = Integer.getInteger("utilitymodule.errors.stack-depth", 0);
+
+    private StackTraces() {}
+
+    public static boolean isStackless() {
+        return stackless;
+    }
+
+    public static void setStackless(boolean stackless) {
+        StackTraces.stackless = stackless;
+    }
+
+    public static int maxDepth() {
+        return maxDepth;
+    }
+
+    public static void setMaxDepth(int maxDepth) {
+        Assert.isTrue(maxDepth >= 0, "Stack depth must not be negative.");
+        StackTraces.maxDepth = maxDepth;
+    }
+
+    public static String format(Throwable e) {
+        if (stackless)
+            return "";
+
+        return format(e.getStackTrace());
+    }
+
+    public static String format(StackTraceElement[] e) {
+        if (stackless)
+            return "";
+
+        int depth = maxDepth;
+        return Arrays.stream(e)
+                .limit(depth == 0 ? e.length : depth)
+                .map(StackTraceElement::toString)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+}
@@ -22,6 +22,26 @@ import java.util.stream.Stream;
 @Data
 public class StdErr<R> extends ResultTy<R> implements Err<R> {
 
+    /**
+     * Shared by every empty Err, so it cannot be set.
+     */
+    private static final StdErr<?> EMPTY = new StdErr<Object>(Optional.empty()) {
+        @Override
+        public void set(Object o) {
+            throw new UnsupportedOperationException("Cannot set the shared empty Err.");
+        }
+
+        @Override
+        public void setT(IResultItem<Object> t) {
+            throw new UnsupportedOperationException("Cannot set the shared empty Err.");
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <R> StdErr<R> empty() {
+        return (StdErr<R>) EMPTY;
+    }
+
     public StdErr(Stream<R> r) {
         super(r);
     }
@@ -0,0 +1,66 @@
+package com.hayden.utilitymodule.result.error;
+
+import java.util.Objects;
+
+/**
+ * Keeps the {@link Throwable} and renders its message and stack trace on the first {@link #getMessage()}, so
+ * errors that are dropped or mapped away never format their stack trace.
+ */
+public final class ThrowableError implements SingleError {
+
+    private final Throwable throwable;
+
+    private volatile String message;
+
+    public ThrowableError(Throwable throwable) {
+        this.throwable = throwable;
+    }
+
+    public Throwable throwable() {
+        return throwable;
+    }
+
+    @Override
+    public String getMessage() {
+        var m = message;
+        if (m == null)
+            message = m = render(throwable);
+
+        return m;
+    }
+
+    /**
+     * The message of the throwable followed by its stack trace, or just the message while
+     * {@link StackTraces#isStackless()}.
+     */
+    public static String render(Throwable throwable) {
+        if (StackTraces.isStackless())
+            return String.valueOf(throwable.getMessage());
+
+        return "%s\n%s".formatted(throwable.getMessage(), StackTraces.format(throwable));
+    }
+
+    /**
+     * Always an error, without rendering the message to check it is not blank.
+     */
+    @Override
+    public boolean isError() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ThrowableError that && Objects.equals(throwable, that.throwable);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(throwable);
+    }
+
+    @Override
+    public String toString() {
+        return "ThrowableError[%s]".formatted(throwable);
+    }
+
+}
@@ -5,7 +5,6 @@ import com.hayden.utilitymodule.result.agg.AggregateError;
 import com.hayden.utilitymodule.result.error.SingleError;
 import com.hayden.utilitymodule.result.agg.Responses;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -16,41 +15,57 @@ import java.util.function.Supplier;
 
 public interface AggregateResultCollectors {
 
+    /**
+     * Aggregates into containers from the {@code t} and {@code e} suppliers. When the suppliers create new
+     * instances each fork of a parallel stream accumulates into its own container and the combiner merges them
+     * with {@link com.hayden.utilitymodule.result.agg.Agg#addAgg}. Collectors built from values share those
+     * instances between containers, so are only safe on a sequential stream.
+     */
     class AggregateResultCollector<T extends Responses.AggregateResponse, E extends AggregateError>
             extends ResultCollectors<T, E, Result<T, E>, T, E> {
 
-        protected final T aggregateResponse;
-        protected final E aggregateError;
+        protected final Supplier<T> aggregateResponse;
+        protected final Supplier<E> aggregateError;
 
         public AggregateResultCollector(T t, E e) {
+            this(() -> t, () -> e);
+        }
+
+        public AggregateResultCollector(Supplier<T> t, Supplier<E> e) {
             this.aggregateResponse = t;
             this.aggregateError = e;
         }
 
 
+        /**
+         * @deprecated every container of a parallel stream shares {@code t} and {@code e}, use {@link #toResult}.
+         */
+        @Deprecated
         public static <T extends Responses.AggregateResponse, E extends AggregateError> AggregateResultCollector<T, E> fromValues(T t, E e) {
             return new AggregateResultCollector<>(t, e);
         }
 
         public static <T extends Responses.AggregateResponse, E extends AggregateError> AggregateResultCollector<T, E> toResult(Supplier<T> t, Supplier<E> e) {
-            return new AggregateResultCollector<>(t.get(), e.get());
+            return new AggregateResultCollector<>(t, e);
         }
 
         @Override
         public Supplier<Result<T, E>> supplier() {
-            return () -> Result.from(aggregateResponse, aggregateError);
+            return () -> Result.from(aggregateResponse.get(), aggregateError.get());
         }
 
         @Override
         public BiConsumer<Result<T, E>, Result<T, E>> accumulator() {
             return (r1, r2) -> {
+                T response = r1.r().get();
+                E error = r1.e().get();
                 List<T> list = r2.r().stream().toList();
                 for (var res : list) {
-                    aggregateResponse.addAgg(res);
+                    response.addAgg(res);
                 }
                 var list2 = r2.e().stream().toList();
                 for (var res : list2) {
-                    aggregateError.addAgg(res);
+                    error.addAgg(res);
                 }
             };
         }
@@ -58,28 +73,36 @@ public interface AggregateResultCollectors {
         @Override
         public BinaryOperator<Result<T, E>> combiner() {
             return (r1, r2) -> {
-                r2.ifPresent(aggregateResponse::addAgg);
-                r2.e().map(E::errors).ifPresent(aggregateError::addError);
-                return Result.from(aggregateResponse, aggregateError);
+                T response = r1.r().get();
+                E error = r1.e().get();
+                r2.ifPresent(r -> {
+                    if (r != response)
+                        response.addAgg(r);
+                });
+                r2.e().ifPresent(e -> {
+                    if (e != error)
+                        error.addAgg(e);
+                });
+                return r1;
             };
         }
 
         @Override
         public Function<Result<T, E>, Result<T, E>> finisher() {
-            return r1 -> Result.from(aggregateResponse, aggregateError);
+            return Function.identity();
         }
 
         @Override
         public Set<Characteristics> characteristics() {
-            return Collections.emptySet();
+            return IDENTITY_FINISH_CHARACTERISTICS;
         }
     }
 
     class AggregateMappingResultCollector<T extends Responses.AggregateResponse, E extends AggregateError, R1, E1 extends SingleError>
             extends ResultCollectors<T, E, Result<R1, E1>, R1, E1> {
 
-        protected final T aggregateResponse;
-        protected final E aggregateError;
+        protected final Supplier<T> aggregateResponse;
+        protected final Supplier<E> aggregateError;
 
         private final Function<Result<R1, E1>, Optional<T>> mapResult;
         private final Function<Result<R1, E1>, Optional<E>> mapError;
@@ -87,6 +110,12 @@ public interface AggregateResultCollectors {
         public AggregateMappingResultCollector(T t, E e,
                                                Function<Result<R1, E1>, Optional<T>> result,
                                                Function<Result<R1, E1>, Optional<E>> error) {
+            this(() -> t, () -> e, result, error);
+        }
+
+        public AggregateMappingResultCollector(Supplier<T> t, Supplier<E> e,
+                                               Function<Result<R1, E1>, Optional<T>> result,
+                                               Function<Result<R1, E1>, Optional<E>> error) {
             this.aggregateResponse = t;
             this.aggregateError = e;
             mapResult = result;
@@ -95,7 +124,7 @@ public interface AggregateResultCollectors {
 
         @Override
         public Supplier<Result<T, E>> supplier() {
-            return () -> Result.from(this.aggregateResponse, this.aggregateError);
+            return () -> Result.from(this.aggregateResponse.get(), this.aggregateError.get());
         }
 
         @Override
@@ -109,20 +138,28 @@ public interface AggregateResultCollectors {
         @Override
         public BinaryOperator<Result<T, E>> combiner() {
             return (r1, r2) -> {
-                r2.ifPresent(aggregateResponse::addAgg);
-                r2.e().map(E::errors).ifPresent(aggregateError::addError);
-                return Result.from(aggregateResponse, aggregateError);
+                T response = r1.r().get();
+                E error = r1.e().get();
+                r2.ifPresent(r -> {
+                    if (r != response)
+                        response.addAgg(r);
+                });
+                r2.e().ifPresent(e -> {
+                    if (e != error)
+                        error.addAgg(e);
+                });
+                return r1;
             };
         }
 
         @Override
         public Function<Result<T, E>, Result<T, E>> finisher() {
-            return r1 -> Result.from(aggregateResponse, aggregateError);
+            return Function.identity();
         }
 
         @Override
         public Set<Characteristics> characteristics() {
-            return Set.of();
+            return IDENTITY_FINISH_CHARACTERISTICS;
         }
     }
 }
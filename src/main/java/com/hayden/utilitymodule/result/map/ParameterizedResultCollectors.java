@@ -6,7 +6,6 @@ import com.hayden.utilitymodule.result.agg.AggregateParamError;
 import com.hayden.utilitymodule.result.error.SingleError;
 import com.hayden.utilitymodule.result.agg.Responses;
 
-import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -16,18 +15,30 @@ import java.util.function.Supplier;
 
 public interface ParameterizedResultCollectors {
 
+    /**
+     * Aggregates into containers from the {@code t} and {@code e} suppliers, see
+     * {@link AggregateResultCollectors.AggregateResultCollector} for when this is safe on a parallel stream.
+     */
     class AggregateParamResultCollector<T extends Responses.ParamAggregateResponse<R>, R, E extends AggregateParamError<InE>, InE extends SingleError>
             extends ResultCollectors<T, E, Result<R, InE>, R, InE> {
 
-        protected final T aggregateResponse;
-        protected final E aggregateError;
+        protected final Supplier<T> aggregateResponse;
+        protected final Supplier<E> aggregateError;
 
         public AggregateParamResultCollector(T t, E e) {
+            this(() -> t, () -> e);
+        }
+
+        public AggregateParamResultCollector(Supplier<T> t, Supplier<E> e) {
             this.aggregateResponse = t;
             this.aggregateError = e;
         }
 
 
+        /**
+         * @deprecated every container of a parallel stream shares {@code t} and {@code e}, use {@link #toResult}.
+         */
+        @Deprecated
         public static <T extends Responses.ParamAggregateResponse<R>, R, E extends AggregateParamError<InE>, InE extends SingleError>
         AggregateParamResultCollector<T, R, E, InE> fromValues(T t, E e) {
             return new AggregateParamResultCollector<>(t, e);
@@ -35,9 +46,14 @@ public interface ParameterizedResultCollectors {
 
         public static <T extends Responses.ParamAggregateResponse<R>, R, E extends AggregateParamError<InE>, InE extends SingleError>
         AggregateParamResultCollector<T, R, E, InE> toResult(Supplier<T> t, Supplier<E> e) {
-            return new AggregateParamResultCollector<>(t.get(), e.get());
+            return new AggregateParamResultCollector<>(t, e);
         }
 
+        /**
+         * @deprecated every container of a parallel stream shares {@code t} and {@code e}, use
+         * {@link AggregateResultCollectors.AggregateResultCollector#toResult}.
+         */
+        @Deprecated
         public static <
                 T extends Responses.AggregateResponse,
                 Er extends AggregateError
@@ -50,42 +66,42 @@ public interface ParameterizedResultCollectors {
 
         @Override
         public Supplier<Result<T, E>> supplier() {
-            return () -> Result.from(aggregateResponse, aggregateError);
+            return () -> Result.from(aggregateResponse.get(), aggregateError.get());
         }
 
         @Override
         public BiConsumer<Result<T, E>, Result<R, InE>> accumulator() {
             return (r1, r2) -> {
-                r2.ifPresent(aggregateResponse::addItem);
-                r2.e().ifPresent(aggregateError::addError);
+                r2.ifPresent(r1.r().get()::addItem);
+                r2.e().ifPresent(r1.e().get()::addError);
             };
         }
 
         @Override
         public BinaryOperator<Result<T, E>> combiner() {
-            return (r1, r2) -> {
-                r2.ifPresent(aggregateResponse::addItem);
-                r2.e().map(E::errors).ifPresent(aggregateError::addError);
-                return Result.from(aggregateResponse, aggregateError);
-            };
+            return ParameterizedResultCollectors::merge;
         }
 
         @Override
         public Function<Result<T, E>, Result<T, E>> finisher() {
-            return r1 -> Result.from(aggregateResponse, aggregateError);
+            return Function.identity();
         }
 
         @Override
         public Set<Characteristics> characteristics() {
-            return Collections.emptySet();
+            return IDENTITY_FINISH_CHARACTERISTICS;
         }
     }
 
+    /**
+     * Aggregates into containers from the {@code t} and {@code e} suppliers, see
+     * {@link AggregateResultCollectors.AggregateResultCollector} for when this is safe on a parallel stream.
+     */
     class AggregateMappingParamResultCollector<T extends Responses.ParamAggregateResponse<U>, U, E extends AggregateParamError<E1>, R1, E1 extends SingleError>
             extends ResultCollectors<T, E, Result<R1, E1>, R1, E1> {
 
-        protected final T aggregateResponse;
-        protected final E aggregateError;
+        protected final Supplier<T> aggregateResponse;
+        protected final Supplier<E> aggregateError;
 
         private final Function<Result<R1, E1>, Optional<U>> mapResult;
         private final Function<Result<R1, E1>, Optional<E1>> mapError;
@@ -93,6 +109,12 @@ public interface ParameterizedResultCollectors {
         public AggregateMappingParamResultCollector(T t, E e,
                                                     Function<Result<R1, E1>, Optional<U>> result,
                                                     Function<Result<R1, E1>, Optional<E1>> error) {
+            this(() -> t, () -> e, result, error);
+        }
+
+        public AggregateMappingParamResultCollector(Supplier<T> t, Supplier<E> e,
+                                                    Function<Result<R1, E1>, Optional<U>> result,
+                                                    Function<Result<R1, E1>, Optional<E1>> error) {
             this.aggregateResponse = t;
             this.aggregateError = e;
             this.mapResult = result;
@@ -101,7 +123,7 @@ public interface ParameterizedResultCollectors {
 
         @Override
         public Supplier<Result<T, E>> supplier() {
-            return () -> Result.from(this.aggregateResponse, this.aggregateError);
+            return () -> Result.from(this.aggregateResponse.get(), this.aggregateError.get());
         }
 
         @Override
@@ -118,29 +140,25 @@ public interface ParameterizedResultCollectors {
 
         @Override
         public BinaryOperator<Result<T, E>> combiner() {
-            return (r1, r2) -> {
-                r2.ifPresent(aggregateResponse::addItem);
-                r2.e().map(E::errors).ifPresent(aggregateError::addError);
-                return Result.from(aggregateResponse, aggregateError);
-            };
+            return ParameterizedResultCollectors::merge;
         }
 
         @Override
         public Function<Result<T, E>, Result<T, E>> finisher() {
-            return r1 -> Result.from(aggregateResponse, aggregateError);
+            return Function.identity();
         }
 
         @Override
         public Set<Characteristics> characteristics() {
-            return Set.of();
+            return IDENTITY_FINISH_CHARACTERISTICS;
         }
     }
 
     class AggregateMappingParamAggResultCollector<T extends Responses.ParamAggregateResponse<U>, U, E extends AggregateParamError<E1>, R1, E1 extends SingleError>
             extends ResultCollectors<T, E, Result<R1, E1>, R1, E1> {
 
-        protected final T aggregateResponse;
-        protected final E aggregateError;
+        protected final Supplier<T> aggregateResponse;
+        protected final Supplier<E> aggregateError;
 
         private final Function<Result<R1, E1>, Optional<T>> mapResult;
         private final Function<Result<R1, E1>, Optional<E>> mapError;
@@ -148,6 +166,12 @@ public interface ParameterizedResultCollectors {
         public AggregateMappingParamAggResultCollector(T t, E e,
                                                        Function<Result<R1, E1>, Optional<T>> result,
                                                        Function<Result<R1, E1>, Optional<E>> error) {
+            this(() -> t, () -> e, result, error);
+        }
+
+        public AggregateMappingParamAggResultCollector(Supplier<T> t, Supplier<E> e,
+                                                       Function<Result<R1, E1>, Optional<T>> result,
+                                                       Function<Result<R1, E1>, Optional<E>> error) {
             this.aggregateResponse = t;
             this.aggregateError = e;
             this.mapResult = result;
@@ -156,7 +180,7 @@ public interface ParameterizedResultCollectors {
 
         @Override
         public Supplier<Result<T, E>> supplier() {
-            return () -> Result.from(this.aggregateResponse, this.aggregateError);
+            return () -> Result.from(this.aggregateResponse.get(), this.aggregateError.get());
         }
 
         @Override
@@ -173,22 +197,37 @@ public interface ParameterizedResultCollectors {
 
         @Override
         public BinaryOperator<Result<T, E>> combiner() {
-            return (r1, r2) -> {
-                r2.ifPresent(aggregateResponse::addItem);
-                r2.e().map(E::errors).ifPresent(aggregateError::addError);
-                return Result.from(aggregateResponse, aggregateError);
-            };
+            return ParameterizedResultCollectors::merge;
         }
 
         @Override
         public Function<Result<T, E>, Result<T, E>> finisher() {
-            return r1 -> Result.from(aggregateResponse, aggregateError);
+            return Function.identity();
         }
 
         @Override
         public Set<Characteristics> characteristics() {
-            return Set.of();
+            return IDENTITY_FINISH_CHARACTERISTICS;
         }
     }
 
+    /**
+     * Merges the container of another fork into {@code into}. Containers seeded from the same instances are
+     * skipped, as merging would add an aggregate to itself.
+     */
+    static <T extends Responses.ParamAggregateResponse<?>, E extends AggregateParamError<InE>, InE extends SingleError>
+    Result<T, E> merge(Result<T, E> into, Result<T, E> from) {
+        T response = into.r().get();
+        E error = into.e().get();
+        from.ifPresent(r -> {
+            if (r != response)
+                response.addAgg(r);
+        });
+        from.e().ifPresent(e -> {
+            if (e != error)
+                error.addError(e.errors());
+        });
+        return into;
+    }
+
 }
@@ -7,8 +7,12 @@ import com.hayden.utilitymodule.result.Result;
 import com.hayden.utilitymodule.result.error.SingleError;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 
 @RequiredArgsConstructor
@@ -21,6 +25,13 @@ public abstract class ResultCollectors<
         >
         implements Collector<IN_RES, Result<OUT_R, OUT_E>, Result<OUT_R, OUT_E>> {
 
+    /**
+     * Not {@link Characteristics#CONCURRENT}, as {@link com.hayden.utilitymodule.result.agg.Agg} implementations are
+     * not thread-safe, and not {@link Characteristics#UNORDERED}, as list-backed aggregates keep encounter order.
+     */
+    protected static final Set<Characteristics> IDENTITY_FINISH_CHARACTERISTICS
+            = Collections.unmodifiableSet(EnumSet.of(Characteristics.IDENTITY_FINISH));
+
     public interface ResultMapper<ResultTypeT, ErrorTypeT extends SingleError, ToCreateAggT>
             extends Function<Result<ResultTypeT, ErrorTypeT>, Optional<ToCreateAggT>> {
     }
@@ -37,6 +48,26 @@ public abstract class ResultCollectors<
             extends Function<Result<ResultTypeT, ErrorTypeT>, Optional<ToCreateAggT>> {
     }
 
+    public static <
+            T extends Responses.ParamAggregateResponse<R>,
+            R,
+            E extends AggregateParamError<E1>,
+            R1, E1 extends SingleError
+            >
+    ResultCollectors<T, E, Result<R1, E1>, R1, E1> toParamResult(
+            Supplier<T> t,
+            Supplier<E> e,
+            ResultMapper<R1, E1, R> result,
+            ErrorMapper<R1, E1, E1> error
+    ) {
+        return new ParameterizedResultCollectors.AggregateMappingParamResultCollector<>(t, e, result, error);
+    }
+
+    /**
+     * @deprecated every container of a parallel stream shares {@code t} and {@code e}, use
+     * {@link #toParamResult(Supplier, Supplier, ResultMapper, ErrorMapper)}.
+     */
+    @Deprecated
     public static <
             T extends Responses.ParamAggregateResponse<R>,
             R,
@@ -52,6 +83,27 @@ public abstract class ResultCollectors<
         return new ParameterizedResultCollectors.AggregateMappingParamResultCollector<>(t, e, result, error);
     }
 
+    public static <
+            T extends Responses.ParamAggregateResponse<R>,
+            R,
+            E extends AggregateParamError<E1>,
+            R1,
+            E1 extends SingleError
+            >
+    ResultCollectors<T, E, Result<R1, E1>, R1, E1> toAggParamResult(
+            Supplier<T> t,
+            Supplier<E> e,
+            ResultMapper<R1, E1, T> result,
+            ErrorMapper<R1, E1, E> error
+    ) {
+        return new ParameterizedResultCollectors.AggregateMappingParamAggResultCollector<>(t, e, result, error);
+    }
+
+    /**
+     * @deprecated every container of a parallel stream shares {@code t} and {@code e}, use
+     * {@link #toAggParamResult(Supplier, Supplier, ResultMapper, ErrorMapper)}.
+     */
+    @Deprecated
     public static <
             T extends Responses.ParamAggregateResponse<R>,
             R,
@@ -68,6 +120,25 @@ public abstract class ResultCollectors<
         return new ParameterizedResultCollectors.AggregateMappingParamAggResultCollector<>(t, e, result, error);
     }
 
+    public static <
+            T extends Responses.AggregateResponse,
+            E extends AggregateError,
+            R1, E1 extends SingleError
+            >
+    ResultCollectors<T, E, Result<R1, E1>, R1, E1> toResult(
+            Supplier<T> t,
+            Supplier<E> e,
+            AggResultMapper<R1, E1, T> result,
+            AggErrorMapper<R1, E1, E> error
+    ) {
+        return new AggregateResultCollectors.AggregateMappingResultCollector<>(t, e, result, error);
+    }
+
+    /**
+     * @deprecated every container of a parallel stream shares {@code t} and {@code e}, use
+     * {@link #toResult(Supplier, Supplier, AggResultMapper, AggErrorMapper)}.
+     */
+    @Deprecated
     public static <
             T extends Responses.AggregateResponse,
             E extends AggregateError,
@@ -82,6 +153,21 @@ public abstract class ResultCollectors<
         return new AggregateResultCollectors.AggregateMappingResultCollector<>(t, e, result, error);
     }
 
+    public static <
+            T extends Responses.AggregateResponse,
+            Er extends AggregateError
+            >
+    ResultCollectors<T, Er, Result<T, Er>, T, Er> toResult(
+            Supplier<T> t, Supplier<Er> e
+    ) {
+        return AggregateResultCollectors.AggregateResultCollector.toResult(t, e);
+    }
+
+    /**
+     * @deprecated every container of a parallel stream shares {@code t} and {@code e}, use
+     * {@link #toResult(Supplier, Supplier)}.
+     */
+    @Deprecated
     public static <
             T extends Responses.AggregateResponse,
             Er extends AggregateError
@@ -92,6 +178,23 @@ public abstract class ResultCollectors<
         return AggregateResultCollectors.AggregateResultCollector.fromValues(t, e);
     }
 
+    public static <
+            T extends Responses.ParamAggregateResponse<R>,
+            R,
+            Er extends AggregateParamError<InE>,
+            InE extends SingleError
+            >
+    ResultCollectors<T, Er, Result<R, InE>, R, InE> toParamResult(
+            Supplier<T> t, Supplier<Er> e
+    ) {
+        return ParameterizedResultCollectors.AggregateParamResultCollector.toResult(t, e);
+    }
+
+    /**
+     * @deprecated every container of a parallel stream shares {@code t} and {@code e}, use
+     * {@link #toParamResult(Supplier, Supplier)}.
+     */
+    @Deprecated
     public static <
             T extends Responses.ParamAggregateResponse<R>,
             R,
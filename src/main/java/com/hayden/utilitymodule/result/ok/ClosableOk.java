@@ -85,6 +85,18 @@ public class ClosableOk<R extends AutoCloseable> extends ResultTy<R> implements
         return Optional.empty();
     }
 
+    /**
+     * The resource without taking it over from the result that owns it, for registering it with the
+     * {@link com.hayden.utilitymodule.result.closable.ClosableMonitor} only.
+     */
+    public R peekClosable() {
+        if (this.t instanceof ClosableResult<R> res) {
+            return res.r().orElse(null);
+        }
+
+        return this.t.get();
+    }
+
     public R getClosableQuietly() {
         if (this.t instanceof ClosableResult<R> res) {
             return res.getClosableQuietly();
@@ -32,7 +32,7 @@ public interface Ok<R> extends IResultItem<R> {
     }
 
     static <R> Ok<R> empty() {
-        return new StdOk<>(Optional.empty());
+        return StdOk.empty();
     }
 
     static <R> Ok<ResponseEntity<R>> ok(ResponseEntity<R> r) {
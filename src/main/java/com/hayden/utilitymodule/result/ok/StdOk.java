@@ -14,6 +14,26 @@ import java.util.stream.Stream;
 @Data
 public class StdOk<R> extends ResultTy<R> implements Ok<R> {
 
+    /**
+     * Shared by every empty Ok, so it cannot be set.
+     */
+    private static final StdOk<?> EMPTY = new StdOk<Object>(Optional.empty()) {
+        @Override
+        public void set(Object o) {
+            throw new UnsupportedOperationException("Cannot set the shared empty Ok.");
+        }
+
+        @Override
+        public void setT(IResultItem<Object> t) {
+            throw new UnsupportedOperationException("Cannot set the shared empty Ok.");
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <R> StdOk<R> empty() {
+        return (StdOk<R>) EMPTY;
+    }
+
     public StdOk(R r) {
         super(r);
     }
@@ -0,0 +1,123 @@
+package com.hayden.utilitymodule.result.primitive;
+
+import com.hayden.utilitymodule.result.OneResult;
+import com.hayden.utilitymodule.result.Result;
+import org.springframework.util.Assert;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+/**
+ * Counterpart of {@link OneResult} for a single double, holding either the unboxed value or an error. Ok results
+ * carry no error object, and mapping the error of an ok result, or the value of an error result, returns
+ * the same instance. Use {@link #toResult()} to continue with the generic API.
+ */
+public final class DoubleResult<E> {
+
+    private final double value;
+
+    private final E error;
+
+    private DoubleResult(double value, E error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <E> DoubleResult<E> ok(double value) {
+        return new DoubleResult<>(value, null);
+    }
+
+    public static <E> DoubleResult<E> err(E error) {
+        Assert.notNull(error, "Error of DoubleResult must not be null.");
+        return new DoubleResult<>(0d, error);
+    }
+
+    public boolean isOk() {
+        return error == null;
+    }
+
+    public boolean isErr() {
+        return error != null;
+    }
+
+    public double get() {
+        if (isErr())
+            throw new NoSuchElementException("Called get on DoubleResult containing error %s.".formatted(error));
+
+        return value;
+    }
+
+    public Optional<E> error() {
+        return Optional.ofNullable(error);
+    }
+
+    public DoubleResult<E> map(DoubleUnaryOperator mapper) {
+        if (isErr())
+            return this;
+
+        return ok(mapper.applyAsDouble(value));
+    }
+
+    public IntResult<E> mapToInt(DoubleToIntFunction mapper) {
+        if (isErr())
+            return IntResult.err(error);
+
+        return IntResult.ok(mapper.applyAsInt(value));
+    }
+
+    public LongResult<E> mapToLong(DoubleToLongFunction mapper) {
+        if (isErr())
+            return LongResult.err(error);
+
+        return LongResult.ok(mapper.applyAsLong(value));
+    }
+
+    public <U> OneResult<U, E> mapToObj(DoubleFunction<U> mapper) {
+        if (isErr())
+            return Result.err(Optional.of(error));
+
+        return Result.ok(mapper.apply(value));
+    }
+
+    public DoubleResult<E> flatMap(DoubleFunction<DoubleResult<E>> mapper) {
+        if (isErr())
+            return this;
+
+        return mapper.apply(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E1> DoubleResult<E1> mapError(Function<E, E1> mapper) {
+        if (isOk())
+            return (DoubleResult<E1>) this;
+
+        return err(mapper.apply(error));
+    }
+
+    public double orElse(double or) {
+        return isOk() ? value : or;
+    }
+
+    public double orElseGet(DoubleSupplier or) {
+        return isOk() ? value : or.getAsDouble();
+    }
+
+    public OneResult<Double, E> toResult() {
+        if (isErr())
+            return Result.err(Optional.of(error));
+
+        return Result.ok(value);
+    }
+
+    @Override
+    public String toString() {
+        return isOk() ? "DoubleResult[value=%s]".formatted(value) : "DoubleResult[error=%s]".formatted(error);
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.hayden.utilitymodule.result.primitive;
+
+import com.hayden.utilitymodule.result.OneResult;
+import com.hayden.utilitymodule.result.Result;
+import org.springframework.util.Assert;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Counterpart of {@link OneResult} for a single int, holding either the unboxed value or an error. Ok results
+ * carry no error object, and mapping the error of an ok result, or the value of an error result, returns
+ * the same instance. Use {@link #toResult()} to continue with the generic API.
+ */
+public final class IntResult<E> {
+
+    private final int value;
+
+    private final E error;
+
+    private IntResult(int value, E error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <E> IntResult<E> ok(int value) {
+        return new IntResult<>(value, null);
+    }
+
+    public static <E> IntResult<E> err(E error) {
+        Assert.notNull(error, "Error of IntResult must not be null.");
+        return new IntResult<>(0, error);
+    }
+
+    public boolean isOk() {
+        return error == null;
+    }
+
+    public boolean isErr() {
+        return error != null;
+    }
+
+    public int get() {
+        if (isErr())
+            throw new NoSuchElementException("Called get on IntResult containing error %s.".formatted(error));
+
+        return value;
+    }
+
+    public Optional<E> error() {
+        return Optional.ofNullable(error);
+    }
+
+    public IntResult<E> map(IntUnaryOperator mapper) {
+        if (isErr())
+            return this;
+
+        return ok(mapper.applyAsInt(value));
+    }
+
+    public LongResult<E> mapToLong(IntToLongFunction mapper) {
+        if (isErr())
+            return LongResult.err(error);
+
+        return LongResult.ok(mapper.applyAsLong(value));
+    }
+
+    public DoubleResult<E> mapToDouble(IntToDoubleFunction mapper) {
+        if (isErr())
+            return DoubleResult.err(error);
+
+        return DoubleResult.ok(mapper.applyAsDouble(value));
+    }
+
+    public <U> OneResult<U, E> mapToObj(IntFunction<U> mapper) {
+        if (isErr())
+            return Result.err(Optional.of(error));
+
+        return Result.ok(mapper.apply(value));
+    }
+
+    public IntResult<E> flatMap(IntFunction<IntResult<E>> mapper) {
+        if (isErr())
+            return this;
+
+        return mapper.apply(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E1> IntResult<E1> mapError(Function<E, E1> mapper) {
+        if (isOk())
+            return (IntResult<E1>) this;
+
+        return err(mapper.apply(error));
+    }
+
+    public int orElse(int or) {
+        return isOk() ? value : or;
+    }
+
+    public int orElseGet(IntSupplier or) {
+        return isOk() ? value : or.getAsInt();
+    }
+
+    public OneResult<Integer, E> toResult() {
+        if (isErr())
+            return Result.err(Optional.of(error));
+
+        return Result.ok(value);
+    }
+
+    @Override
+    public String toString() {
+        return isOk() ? "IntResult[value=%s]".formatted(value) : "IntResult[error=%s]".formatted(error);
+    }
+
+}
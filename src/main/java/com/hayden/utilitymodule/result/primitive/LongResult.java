@@ -0,0 +1,123 @@
+package com.hayden.utilitymodule.result.primitive;
+
+import com.hayden.utilitymodule.result.OneResult;
+import com.hayden.utilitymodule.result.Result;
+import org.springframework.util.Assert;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Counterpart of {@link OneResult} for a single long, holding either the unboxed value or an error. Ok results
+ * carry no error object, and mapping the error of an ok result, or the value of an error result, returns
+ * the same instance. Use {@link #toResult()} to continue with the generic API.
+ */
+public final class LongResult<E> {
+
+    private final long value;
+
+    private final E error;
+
+    private LongResult(long value, E error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <E> LongResult<E> ok(long value) {
+        return new LongResult<>(value, null);
+    }
+
+    public static <E> LongResult<E> err(E error) {
+        Assert.notNull(error, "Error of LongResult must not be null.");
+        return new LongResult<>(0, error);
+    }
+
+    public boolean isOk() {
+        return error == null;
+    }
+
+    public boolean isErr() {
+        return error != null;
+    }
+
+    public long get() {
+        if (isErr())
+            throw new NoSuchElementException("Called get on LongResult containing error %s.".formatted(error));
+
+        return value;
+    }
+
+    public Optional<E> error() {
+        return Optional.ofNullable(error);
+    }
+
+    public LongResult<E> map(LongUnaryOperator mapper) {
+        if (isErr())
+            return this;
+
+        return ok(mapper.applyAsLong(value));
+    }
+
+    public IntResult<E> mapToInt(LongToIntFunction mapper) {
+        if (isErr())
+            return IntResult.err(error);
+
+        return IntResult.ok(mapper.applyAsInt(value));
+    }
+
+    public DoubleResult<E> mapToDouble(LongToDoubleFunction mapper) {
+        if (isErr())
+            return DoubleResult.err(error);
+
+        return DoubleResult.ok(mapper.applyAsDouble(value));
+    }
+
+    public <U> OneResult<U, E> mapToObj(LongFunction<U> mapper) {
+        if (isErr())
+            return Result.err(Optional.of(error));
+
+        return Result.ok(mapper.apply(value));
+    }
+
+    public LongResult<E> flatMap(LongFunction<LongResult<E>> mapper) {
+        if (isErr())
+            return this;
+
+        return mapper.apply(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E1> LongResult<E1> mapError(Function<E, E1> mapper) {
+        if (isOk())
+            return (LongResult<E1>) this;
+
+        return err(mapper.apply(error));
+    }
+
+    public long orElse(long or) {
+        return isOk() ? value : or;
+    }
+
+    public long orElseGet(LongSupplier or) {
+        return isOk() ? value : or.getAsLong();
+    }
+
+    public OneResult<Long, E> toResult() {
+        if (isErr())
+            return Result.err(Optional.of(error));
+
+        return Result.ok(value);
+    }
+
+    @Override
+    public String toString() {
+        return isOk() ? "LongResult[value=%s]".formatted(value) : "LongResult[error=%s]".formatted(error);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.hayden.utilitymodule.result.res_support.many.stream;
+
+import com.hayden.utilitymodule.result.res_support.many.stream.stream_cache.CachingOperations;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Index-based table of the operations a {@link StreamCache} runs against each element, with a bitmask of the
+ * ones that have not yet resolved. Resolving clears the bit, so checking an element allocates nothing and
+ * stops entirely once every per-element operation has resolved. {@link CachingOperations.OnCloseResultTy}
+ * only resolves on close, so it stays active but is never visited per element.
+ */
+final class ActiveOperations {
+
+    private final CachingOperations.StreamCacheOperation[] operations;
+
+    private final long perElement;
+
+    private final AtomicLong concurrentActive;
+
+    private long active;
+
+    ActiveOperations(List<CachingOperations.StreamCacheOperation> operations, boolean concurrent) {
+        Assert.isTrue(operations.size() <= Long.SIZE, "At most %s stream cache operations are supported.".formatted(Long.SIZE));
+        this.operations = operations.toArray(CachingOperations.StreamCacheOperation[]::new);
+
+        long all = 0;
+        long perElement = 0;
+        for (int i = 0; i < this.operations.length; i++) {
+            all |= 1L << i;
+            if (!(this.operations[i] instanceof CachingOperations.OnCloseResultTy<?>))
+                perElement |= 1L << i;
+        }
+
+        this.perElement = perElement;
+        this.active = all;
+        this.concurrentActive = concurrent ? new AtomicLong(all) : null;
+    }
+
+    /**
+     * @return bits of the operations that still need to see elements, zero once all have resolved.
+     */
+    long pending() {
+        return active() & perElement;
+    }
+
+    CachingOperations.StreamCacheOperation operation(int index) {
+        return operations[index];
+    }
+
+    void resolve(int index) {
+        long bit = 1L << index;
+        if (concurrentActive != null)
+            concurrentActive.getAndAccumulate(~bit, (prev, mask) -> prev & mask);
+        else
+            active &= ~bit;
+    }
+
+    List<CachingOperations.StreamCacheOperation> remaining() {
+        long mask = active();
+        List<CachingOperations.StreamCacheOperation> remaining = new ArrayList<>(Long.bitCount(mask));
+        for (long m = mask; m != 0; m &= m - 1) {
+            remaining.add(operations[Long.numberOfTrailingZeros(m)]);
+        }
+        return remaining;
+    }
+
+    private long active() {
+        return concurrentActive != null ? concurrentActive.get() : active;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.hayden.utilitymodule.result.res_support.many.stream;
+
+import org.springframework.util.Assert;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the most recent elements added to an infinite stream. Producers claim a sequence number and write
+ * into its slot, so adding is O(1) and never blocks, and the oldest element is overwritten rather than removed.
+ * Each slot keeps the sequence it was written for, and a producer that falls behind by a whole lap does not
+ * overwrite the newer element already in its slot.
+ * <p>
+ * Reads iterate a snapshot of the window, skipping slots claimed but not yet written, so reads taken while
+ * producers are still adding see the elements written so far. {@link #get(int)} builds that snapshot, so this
+ * is not {@link java.util.RandomAccess}.
+ */
+final class BoundedRingBuffer<T> extends AbstractList<T> {
+
+    private record Slot<T>(long sequence, T value) {}
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+
+    private final AtomicLong written = new AtomicLong();
+
+    BoundedRingBuffer(int capacity) {
+        Assert.isTrue(capacity > 0, "Ring buffer capacity must be positive.");
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public boolean add(T t) {
+        long sequence = written.getAndIncrement();
+        int slot = slot(sequence);
+        var next = new Slot<>(sequence, t);
+        while (true) {
+            var current = slots.get(slot);
+            if (current != null && current.sequence() > sequence)
+                return true;
+            if (slots.compareAndSet(slot, current, next))
+                return true;
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return window().get(index);
+    }
+
+    @Override
+    public int size() {
+        return window().size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return window().iterator();
+    }
+
+    private List<T> window() {
+        long w = written.get();
+        long from = Math.max(0, w - slots.length());
+        List<T> window = new ArrayList<>((int) (w - from));
+        for (long sequence = from; sequence < w; sequence++) {
+            var slot = slots.get(slot(sequence));
+            if (slot != null && slot.sequence() == sequence)
+                window.add(slot.value());
+        }
+
+        return window;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % slots.length());
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.hayden.utilitymodule.result.res_support.many.stream;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Unbounded retention for an infinite stream with no max size. Elements are held softly, so the collector
+ * can reclaim them under memory pressure. Reclaimed elements are skipped when read, and their references are
+ * pruned as the collector reports them, on append and on read, so the list only grows with live elements.
+ * <p>
+ * Reads iterate a snapshot of the live elements, as the collector may reclaim one between a size and a get.
+ * {@link #get(int)} walks the live elements, so this is not {@link java.util.RandomAccess}.
+ */
+final class SoftReferenceList<T> extends AbstractList<T> {
+
+    private final ReferenceQueue<T> cleared = new ReferenceQueue<>();
+
+    private final List<SoftReference<T>> references = new ArrayList<>();
+
+    @Override
+    public synchronized boolean add(T t) {
+        prune();
+        return references.add(new SoftReference<>(t, cleared));
+    }
+
+    @Override
+    public synchronized T get(int index) {
+        return live().get(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        prune();
+        int size = 0;
+        for (var reference : references) {
+            if (reference.get() != null)
+                size++;
+        }
+
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return live().iterator();
+    }
+
+    private synchronized List<T> live() {
+        prune();
+        List<T> live = new ArrayList<>(references.size());
+        for (var reference : references) {
+            var t = reference.get();
+            if (t != null)
+                live.add(t);
+        }
+
+        return live;
+    }
+
+    /**
+     * Drops the references the collector has cleared, once it has enqueued any.
+     */
+    private void prune() {
+        if (cleared.poll() == null)
+            return;
+
+        while (cleared.poll() != null) {}
+        references.removeIf(reference -> reference.get() == null);
+    }
+
+}
@@ -12,14 +12,13 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.hayden.utilitymodule.result.res_support.many.stream.StreamWrapper.StandardCache.finalizeOps;
@@ -94,6 +93,39 @@ public interface StreamCache<T extends CachingOperations.CachedOperation<ST, ?>,
     default @NotNull StreamWrapper.CacheFilterResult<ST> cacheFilter(C streamed,
                                                                      StreamResultOptions opts,
                                                                      Consumer<? super ST> terminalOp) {
+        cacheFromOptions(opts);
+
+        var streamCacheOperations = activeOperations(opts, isParallel() || isAsync());
+
+        if (opts.isInfinite()) {
+            return doInfinite(streamed, terminalOp, streamCacheOperations, opts);
+        }
+
+
+        return doStandard(streamed, terminalOp, streamCacheOperations, opts);
+    }
+
+    /**
+     * Runs the operations on each element as it is pulled from the returned stream, for consumers that pull one
+     * element at a time such as a Flux under backpressure. Each result is in {@link #CACHED_RESULTS()} as soon
+     * as it resolves, and the rest are finalized when the returned stream is closed, so they reflect the
+     * elements pulled before completion or cancellation.
+     */
+    default Stream<ST> cacheIncrementally(C streamed, StreamResultOptions opts) {
+        cacheFromOptions(opts);
+
+        var streamCacheOperations = activeOperations(opts, true);
+
+        return streamed.stream()
+                .peek(c -> doOps(c, streamCacheOperations))
+                .onClose(() -> {
+                    closeOps(streamCacheOperations);
+                    finalizeOps(new StreamWrapper.CacheFilterResult<>((List) streamCacheOperations.remaining(), List.of()),
+                            (ConcurrentHashMap) CACHED_RESULTS());
+                });
+    }
+
+    private void cacheFromOptions(StreamResultOptions opts) {
         if (opts.empty()) {
             var e = new CachingOperations.IsCompletelyEmpty();
             CACHED_RESULTS().computeIfAbsent((Class<? extends T>) e.getClass(),
@@ -111,27 +143,23 @@ public interface StreamCache<T extends CachingOperations.CachedOperation<ST, ?>,
             CACHED_RESULTS().computeIfAbsent((Class<? extends T>) e.getClass(),
                     k -> new CachingOperations.StreamCacheResult<>(e, true));
         }
+    }
 
-        var streamCacheOperations = new AtomicReference<>(
-                predicateTypes(provider()).stream()
-                        .filter(scop -> !opts.isInfinite() || scop instanceof CachingOperations.InfiniteOperation<?, ?>)
+    private ActiveOperations activeOperations(StreamResultOptions opts, boolean concurrent) {
+        return new ActiveOperations(
+                StreamCacheRegistry.operations(provider()).operations(opts).stream()
                         .filter(Predicate.not(s -> CACHED_RESULTS().containsKey(s.getClass())))
-                        .toList());
-
-        if (opts.isInfinite()) {
-            return doInfinite(streamed, terminalOp, streamCacheOperations, opts);
-        }
-
-
-        return doStandard(streamed, terminalOp, streamCacheOperations);
+                        .toList(),
+                concurrent);
     }
 
-    private @NotNull StreamWrapper.CacheFilterResult<ST> doStandard(C streamed, Consumer<? super ST> terminalOp, AtomicReference<List<CachingOperations.StreamCacheOperation>> streamCacheOperations) {
+    private @NotNull StreamWrapper.CacheFilterResult<ST> doStandard(C streamed, Consumer<? super ST> terminalOp, ActiveOperations streamCacheOperations,
+                                                                    StreamResultOptions opts) {
         var stream = stream(streamed);
 
         List<ST> resultList;
         if (isAsync()) {
-            resultList = doAsyncStandard(terminalOp, streamCacheOperations, stream);
+            resultList = doAsyncStandard(terminalOp, streamCacheOperations, stream, opts);
         } else {
             resultList = stream
                     .peek(res -> {
@@ -142,7 +170,7 @@ public interface StreamCache<T extends CachingOperations.CachedOperation<ST, ?>,
         }
 
 
-        return new StreamWrapper.CacheFilterResult<>((List) streamCacheOperations.get(), resultList);
+        return new StreamWrapper.CacheFilterResult<>((List) streamCacheOperations.remaining(), resultList);
     }
 
     private Stream<ST> stream(C streamed) {
@@ -153,93 +181,123 @@ public interface StreamCache<T extends CachingOperations.CachedOperation<ST, ?>,
         return stream;
     }
 
-    private @NotNull List<ST> doAsyncStandard(Consumer<? super ST> terminalOp, AtomicReference<List<CachingOperations.StreamCacheOperation>> streamCacheOperations, Stream<ST> stream) {
-        List<ST> resultList;
-        try (final ExecutorService te = retrieveExecutor()) {
-            var all = stream
-                    .map(i -> CompletableFuture.supplyAsync(
-                            () -> {
-                                terminalOp.accept(i);
-                                doOps(i, streamCacheOperations);
-                                return i;
-                            },
-                            te
-                    ))
-                    .toList();
+    /**
+     * At most maxInFlight elements are submitted ahead of the oldest one still running. The oldest is awaited
+     * before the next is submitted, so results are collected in encounter order.
+     */
+    private @NotNull List<ST> doAsyncStandard(Consumer<? super ST> terminalOp, ActiveOperations streamCacheOperations,
+                                              Stream<ST> stream, StreamResultOptions opts) {
+        final ExecutorService te = retrieveExecutor();
+        final int maxInFlight = opts.maxInFlightOrDefault();
+        List<ST> resultList = new ArrayList<>();
+        Deque<Future<ST>> inFlight = new ArrayDeque<>(maxInFlight);
+        try {
+            stream.forEachOrdered(i -> {
+                if (inFlight.size() >= maxInFlight)
+                    resultList.add(await(inFlight.removeFirst()));
+
+                inFlight.addLast(te.submit(() -> {
+                    terminalOp.accept(i);
+                    doOps(i, streamCacheOperations);
+                    return i;
+                }));
+            });
 
-            resultList = CompletableFuture.allOf(all.toArray(CompletableFuture[]::new))
-                    .thenApply(v -> all.stream().flatMap(f -> {
-                        try {
-                            return Stream.of(f.get());
-                        } catch (
-                                InterruptedException |
-                                ExecutionException e) {
-                            throw new RuntimeException(e);
-                        }
-                    }))
-                    .get()
-                    .toList();
+            while (!inFlight.isEmpty())
+                resultList.add(await(inFlight.removeFirst()));
+        } catch (RuntimeException e) {
+            inFlight.forEach(f -> f.cancel(true));
+            throw e;
+        }
+
+        return Collections.unmodifiableList(resultList);
+    }
 
-        } catch (ExecutionException |
-                 InterruptedException e) {
+    /**
+     * Rethrows what the element's operations threw, rather than the {@link ExecutionException} wrapping it.
+     */
+    private static <ST> ST await(Future<ST> f) {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException r)
+                throw r;
+            if (e.getCause() instanceof Error err)
+                throw err;
+
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static void acquire(Semaphore permits, int count) {
+        try {
+            permits.acquire(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         }
-        return resultList;
     }
 
     private @NotNull StreamWrapper.CacheFilterResult<ST> doInfinite(C streamed,
                                                                     Consumer<? super ST> terminalOp,
-                                                                    AtomicReference<List<CachingOperations.StreamCacheOperation>> streamCacheOperations,
+                                                                    ActiveOperations streamCacheOperations,
                                                                     StreamResultOptions opts) {
         Stream<ST> toCache = infiniStream(streamed, streamCacheOperations);
 
-        List<ST> objects = Collections.synchronizedList(new ArrayList<>());
-        var f = new StreamWrapper.CacheFilterResult<>((List) streamCacheOperations.get(), objects);
-
-        if (opts.isInfinite() && opts.maxSize() == 0) {
-            // TODO?
-            log.warn("""
-                    Infinite stream has no max size, unbounded memory concerns. Future could be soft references in return list.
-                    """);
-        }
+        List<ST> objects = retention(opts);
+        var f = new StreamWrapper.CacheFilterResult<>((List) streamCacheOperations.remaining(), objects);
 
         toCache = toCache.onClose(() -> {
             try {
                 finalizeOps(f, (ConcurrentHashMap) CACHED_RESULTS());
             } catch (Exception e) {
-                log.error("Failed to finalize cache operations: {}\n{}",
-                        e.getMessage(), SingleError.parseStackTraceToString(e));
+                log.error("Failed to finalize cache operations: {}", e.getMessage(), e);
             }
         });
 
         if (isAsync()) {
-            try (final ExecutorService te = retrieveExecutor()) {
-                toCache.forEach(n -> te.submit(() -> {
-                    terminalOp.accept(n);
-                    doAddRemoveInfiniCache(opts, n, objects);
-                }));
-            }
+            final ExecutorService te = retrieveExecutor();
+            final int maxInFlight = opts.maxInFlightOrDefault();
+            Semaphore inFlight = new Semaphore(maxInFlight);
+            toCache.forEach(n -> {
+                acquire(inFlight, 1);
+                te.submit(() -> {
+                    try {
+                        terminalOp.accept(n);
+                        objects.add(n);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            });
+            acquire(inFlight, maxInFlight);
         } else {
             toCache.peek(terminalOp)
-                    .forEach(n -> doAddRemoveInfiniCache(opts, n, objects));
+                    .forEach(objects::add);
         }
 
 
         return f;
     }
 
-    private static <ST> void doAddRemoveInfiniCache(StreamResultOptions opts, ST n, List<ST> objects) {
-        if (opts.maxSize() != 0 && objects.size() > opts.maxSize()) {
-            synchronized (objects) {
-                if (objects.size() > opts.maxSize()) {
-                    IntStream.range(0, Math.max(objects.size() - opts.maxSize(), 1))
-                            .forEach(index -> objects.removeFirst());
-                }
-                objects.add(n);
-            }
-        } else {
-            objects.add(n);
-        }
+    /**
+     * The ring keeps one more than maxSize, the window the infinite cache has always retained: the latest
+     * element and the maxSize before it.
+     */
+    private static <ST> List<ST> retention(StreamResultOptions opts) {
+        if (opts.maxSize() != 0)
+            return new BoundedRingBuffer<>(opts.maxSize() + 1);
+
+        if (opts.softReferences())
+            return new SoftReferenceList<>();
+
+        log.warn("""
+                Infinite stream has no max size, unbounded memory concerns. Set softReferences to allow retained results to be reclaimed.
+                """);
+        return Collections.synchronizedList(new ArrayList<>());
     }
 
     private @NotNull ExecutorService retrieveExecutor() {
@@ -251,7 +309,7 @@ public interface StreamCache<T extends CachingOperations.CachedOperation<ST, ?>,
     }
 
     private @NotNull Stream<ST> infiniStream(C streamed,
-                                             AtomicReference<List<CachingOperations.StreamCacheOperation>> streamCacheOperations) {
+                                             ActiveOperations streamCacheOperations) {
 
         Stream<ST> toParseStream = streamed.stream();
 
@@ -260,54 +318,66 @@ public interface StreamCache<T extends CachingOperations.CachedOperation<ST, ?>,
 
         var s = toParseStream
                 .peek(c -> doOps(c, streamCacheOperations))
-                .onClose(() -> streamCacheOperations.get().stream()
-                        .flatMap(sca -> sca instanceof CachingOperations.OnClosedOperation<?, ?> onClose
-                                        ? Stream.of(onClose)
-                                        : Stream.empty()
-                        )
-                        .forEach(onClose ->
-                                CACHED_RESULTS().put((Class<? extends T>) onClose.getClass(),
-                                        new CachingOperations.StreamCacheResult(onClose, onClose.apply(null)))));
+                .onClose(() -> closeOps(streamCacheOperations));
         if (isParallel())
             return s.parallel();
 
         return s;
     }
 
-    private void doOps(ST res, AtomicReference<List<CachingOperations.StreamCacheOperation>> streamCacheOperations) {
-        var nextOps = streamCacheOperations.get();
-        streamCacheOperations.set(
-                nextOps.stream().filter(op -> switch (op) {
-                            case CachingOperations.StreamCachePredicate.Any n -> {
-                                if (n.test(res)) {
-                                    CACHED_RESULTS().computeIfAbsent((Class<? extends T>) n.getClass(),
-                                            k -> new CachingOperations.StreamCacheResult<>(n, true));
-                                    yield false;
-                                }
-                                yield true;
-                            }
-                            case CachingOperations.StreamCachePredicate.All p -> {
-                                if (p.test(res)) {
-                                    yield true;
-                                } else {
-                                    CACHED_RESULTS().computeIfAbsent((Class<? extends T>) p.getClass(),
-                                            k -> new CachingOperations.StreamCacheResult<>(p, false));
-                                    yield false;
-                                }
-                            }
-                            case CachingOperations.StreamCacheFunction fun ->
-                                    Optional.ofNullable(fun.apply(res))
-                                            .map(app -> {
-                                                CACHED_RESULTS().compute((Class<? extends T>) fun.getClass(),
-                                                        (key, prev) -> new CachingOperations.StreamCacheResult(fun, app));
-                                                return false;
-                                            })
-                                            .orElse(true);
-                            case CachingOperations.OnCloseResultTy o ->
-                                    true;
-                        })
-                        .toList()
-        );
+    private void closeOps(ActiveOperations streamCacheOperations) {
+        streamCacheOperations.remaining().stream()
+                .flatMap(sca -> sca instanceof CachingOperations.OnClosedOperation<?, ?> onClose
+                                ? Stream.of(onClose)
+                                : Stream.empty()
+                )
+                .forEach(onClose ->
+                        CACHED_RESULTS().put((Class<? extends T>) onClose.getClass(),
+                                new CachingOperations.StreamCacheResult(onClose, onClose.apply(null))));
+    }
+
+    private void doOps(ST res, ActiveOperations streamCacheOperations) {
+        for (long pending = streamCacheOperations.pending(); pending != 0; pending &= pending - 1) {
+            int index = Long.numberOfTrailingZeros(pending);
+            if (!doOp(res, streamCacheOperations.operation(index)))
+                streamCacheOperations.resolve(index);
+        }
+    }
+
+    /**
+     * @return true if the operation still needs to see further elements.
+     */
+    private boolean doOp(ST res, CachingOperations.StreamCacheOperation op) {
+        return switch (op) {
+            case CachingOperations.StreamCachePredicate.Any n -> {
+                if (n.test(res)) {
+                    CACHED_RESULTS().computeIfAbsent((Class<? extends T>) n.getClass(),
+                            k -> new CachingOperations.StreamCacheResult<>(n, true));
+                    yield false;
+                }
+                yield true;
+            }
+            case CachingOperations.StreamCachePredicate.All p -> {
+                if (p.test(res)) {
+                    yield true;
+                } else {
+                    CACHED_RESULTS().computeIfAbsent((Class<? extends T>) p.getClass(),
+                            k -> new CachingOperations.StreamCacheResult<>(p, false));
+                    yield false;
+                }
+            }
+            case CachingOperations.StreamCacheFunction fun -> {
+                var app = fun.apply(res);
+                if (app != null) {
+                    CACHED_RESULTS().compute((Class<? extends T>) fun.getClass(),
+                            (key, prev) -> new CachingOperations.StreamCacheResult(fun, app));
+                    yield false;
+                }
+                yield true;
+            }
+            case CachingOperations.OnCloseResultTy o ->
+                    true;
+        };
     }
 
     default <W extends CachingOperations.CachedOperation<U, V>, U, V> OneResult<V, SingleError.StandardError> get(Class<W> clazz) {
@@ -326,9 +396,8 @@ public interface StreamCache<T extends CachingOperations.CachedOperation<ST, ?>,
                     .orElseGet(() -> Result.err(new SingleError.StandardError("Operation did not exist from %s.".formatted(clazz.getName()))));
         } catch (
                 ClassCastException castingException) {
-            log.error("Error when getting stream cache operation: {}\n{}",
-                    castingException.getMessage(),
-                    SingleError.parseStackTraceToString(castingException));
+            log.error("Error when getting stream cache operation: {}",
+                    castingException.getMessage(), castingException);
             return Result.err(new SingleError.StandardError(castingException));
         }
     }
@@ -0,0 +1,47 @@
+package com.hayden.utilitymodule.result.res_support.many.stream;
+
+import com.hayden.utilitymodule.result.res_support.many.stream.stream_cache.CachingOperations;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Operations permitted under a provider such as {@link CachingOperations.ResultStreamCacheOperation} are
+ * resolved by walking the sealed hierarchy once, then shared by every {@link StreamCache} with that provider.
+ * The operations are immutable records, so sharing the instances across caches is safe.
+ */
+public final class StreamCacheRegistry {
+
+    /**
+     * @param all every concrete operation permitted under the provider, in hierarchy order.
+     * @param infinite the subset of {@code all} that can run against an infinite stream.
+     */
+    public record ProviderOperations(List<CachingOperations.StreamCacheOperation> all,
+                                     List<CachingOperations.StreamCacheOperation> infinite) {
+
+        public List<CachingOperations.StreamCacheOperation> operations(StreamResultOptions opts) {
+            return opts.isInfinite() ? infinite : all;
+        }
+    }
+
+    private static final ConcurrentHashMap<Class<? extends CachingOperations.StreamCacheOperation>, ProviderOperations> REGISTRY
+            = new ConcurrentHashMap<>();
+
+    private StreamCacheRegistry() {}
+
+    public static ProviderOperations operations(Class<? extends CachingOperations.StreamCacheOperation> provider) {
+        return REGISTRY.computeIfAbsent(provider, StreamCacheRegistry::computeOperations);
+    }
+
+    /**
+     * Reflective walk of the sealed hierarchy, bypassing the registry.
+     */
+    public static ProviderOperations computeOperations(Class<? extends CachingOperations.StreamCacheOperation> provider) {
+        var all = List.copyOf(StreamCache.predicateTypes(provider));
+        var infinite = all.stream()
+                .filter(scop -> scop instanceof CachingOperations.InfiniteOperation<?, ?>)
+                .toList();
+        return new ProviderOperations(all, infinite);
+    }
+
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.hayden.utilitymodule.Either;
 import com.hayden.utilitymodule.reflection.TypeReferenceDelegate;
 import com.hayden.utilitymodule.result.*;
+import com.hayden.utilitymodule.result.async.FluxResult;
 import com.hayden.utilitymodule.result.error.Err;
 import com.hayden.utilitymodule.result.error.SingleError;
 import com.hayden.utilitymodule.result.ok.Ok;
@@ -57,6 +58,9 @@ public class StreamResult<R, E> implements ManyResult<R, E>, CachableStream<Resu
             super(options, underlying, CachingOperations.ResultStreamCacheOperation.class, res);
         }
         public CachedCollectedResult<R, E> collectCachedResults(Consumer<? super Result<R, E>> terminalOp) {
+            if (cachedCollectionResult == null && this.isStreaming())
+                throw new IllegalStateException("Results were emitted by toFluxResult() and are not kept, read them from its flux.");
+
             if (cachedCollectionResult == null && this.cached.isCached()) {
                 throw new RuntimeException("Cached result is already collected");
             }
@@ -88,7 +92,8 @@ public class StreamResult<R, E> implements ManyResult<R, E>, CachableStream<Resu
 
         @Override
         protected void cacheResultsIfNotCached(Consumer<? super Result<R, E>> consumer) {
-            collectCachedResults(consumer);
+            if (!isStreaming())
+                collectCachedResults(consumer);
         }
 
         public Ok<R> getOk() {
@@ -189,6 +194,29 @@ public class StreamResult<R, E> implements ManyResult<R, E>, CachableStream<Resu
         return r.underlying;
     }
 
+    /**
+     * Emits the results as they are requested rather than collecting them first. {@link #hasAnyError()},
+     * {@link #hasAnyResult()} and {@link #first()} then answer from the results emitted so far, while
+     * {@link #r()}, {@link #e()} and the other collecting operations throw {@link IllegalStateException}, as the
+     * results are not kept. The flux accepts a single subscriber.
+     */
+    public FluxResult<Result<R, E>> toFluxResult() {
+        return new FluxResult<>(r.flux());
+    }
+
+    public boolean hasAnyError() {
+        return r.hasAnyError(this);
+    }
+
+    public boolean hasAnyResult() {
+        return r.hasAnyResult();
+    }
+
+    public Result<R, E> first() {
+        r.cacheResultsIfNotCached();
+        return r.first();
+    }
+
     @Override
     public Ok<R> r() {
         return this.r.getOk();
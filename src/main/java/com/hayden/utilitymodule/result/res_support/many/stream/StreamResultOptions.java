@@ -2,6 +2,20 @@ package com.hayden.utilitymodule.result.res_support.many.stream;
 
 import lombok.Builder;
 
+/**
+ * @param maxSize for infinite streams, how many of the latest elements are retained, 0 for unbounded.
+ * @param softReferences for infinite streams with no maxSize, retain elements softly so they can be reclaimed.
+ * @param maxInFlight for async streams, how many elements may be processed concurrently, 0 for the default.
+ */
 @Builder(toBuilder = true)
 public record StreamResultOptions(boolean empty, boolean isInfinite, boolean isNonEmpty, boolean hasErr, boolean hasRes,
-                                  boolean isParallel, boolean isAsync, boolean isVirtual, int maxSize) { }
+                                  boolean isParallel, boolean isAsync, boolean isVirtual, int maxSize,
+                                  boolean softReferences, int maxInFlight) {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+    public int maxInFlightOrDefault() {
+        return maxInFlight > 0 ? maxInFlight : DEFAULT_MAX_IN_FLIGHT;
+    }
+
+}
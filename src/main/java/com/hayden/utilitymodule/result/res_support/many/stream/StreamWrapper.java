@@ -3,6 +3,7 @@ package com.hayden.utilitymodule.result.res_support.many.stream;
 import com.hayden.utilitymodule.reflection.TypeReferenceDelegate;
 import com.hayden.utilitymodule.result.OneResult;
 import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.async.ResultSchedulers;
 import com.hayden.utilitymodule.result.error.SingleError;
 import com.hayden.utilitymodule.result.res_support.many.stream.stream_cache.CachableStream;
 import com.hayden.utilitymodule.result.res_support.many.stream.stream_cache.CachingOperations;
@@ -11,9 +12,11 @@ import lombok.experimental.Delegate;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -38,6 +41,8 @@ public abstract class StreamWrapper<C extends CachableStream<ST, C>, ST> impleme
     @Getter
     final StreamCache<? extends CachingOperations.CachedOperation, C, ST> cached;
 
+    private volatile boolean streaming;
+
     protected final class InfiniCache implements StreamCache<CachingOperations.InfiniteOperation<ST, ?>, C, ST> {
 
         private final ConcurrentHashMap<Class<? extends CachingOperations.InfiniteOperation<ST, ?>>, CachingOperations.StreamCacheResult> CACHED_RESULTS
@@ -47,17 +52,12 @@ public abstract class StreamWrapper<C extends CachableStream<ST, C>, ST> impleme
 
         private final StreamResultOptions streamResultOptions;
 
-        private ExecutorService executorService;
-
         private volatile boolean cached = false;
 
         public InfiniCache(Class<? extends CachingOperations.StreamCacheOperation> provider,
                            StreamResultOptions streamResultOptions) {
             this.provider = provider;
             this.streamResultOptions = streamResultOptions;
-
-            if (this.streamResultOptions.isAsync())
-                this.executorService = Executors.newVirtualThreadPerTaskExecutor();
         }
 
         @Override
@@ -96,7 +96,7 @@ public abstract class StreamWrapper<C extends CachableStream<ST, C>, ST> impleme
 
         @Override
         public Optional<ExecutorService> executor() {
-            return Optional.ofNullable(this.executorService);
+            return isAsync() ? Optional.of(ResultSchedulers.executor()) : Optional.empty();
         }
 
         @Override
@@ -130,16 +130,12 @@ public abstract class StreamWrapper<C extends CachableStream<ST, C>, ST> impleme
 
         private final StreamResultOptions streamResultOptions;
 
-        private ExecutorService executorService;
-
         private volatile boolean cached = false;
 
         public StandardCache(Class<? extends CachingOperations.StreamCacheOperation> provider,
                              StreamResultOptions streamResultOptions) {
             this.provider = provider;
             this.streamResultOptions = streamResultOptions;
-            if (this.streamResultOptions.isAsync())
-                this.executorService = Executors.newVirtualThreadPerTaskExecutor();
         }
 
         public synchronized void doCache(C c) {
@@ -216,7 +212,7 @@ public abstract class StreamWrapper<C extends CachableStream<ST, C>, ST> impleme
 
         @Override
         public Optional<ExecutorService> executor() {
-            return Optional.ofNullable(this.executorService);
+            return isAsync() ? Optional.of(ResultSchedulers.executor()) : Optional.empty();
         }
 
     }
@@ -317,12 +313,51 @@ public abstract class StreamWrapper<C extends CachableStream<ST, C>, ST> impleme
         cacheResultsIfNotCached(c -> {});
     }
 
+    /**
+     * Once {@link #flux()} has been called the stream belongs to the flux, so this caches nothing and queries
+     * answer from the operations {@link StreamCache#cacheIncrementally} ran on the elements emitted so far.
+     */
     protected void cacheResultsIfNotCached(Consumer<? super ST> consumer) {
+        if (streaming)
+            return;
+
         if (!cached.isCached())
             this.cached.doCache(this.res, consumer);
     }
 
+    /**
+     * Emits the underlying elements as the subscriber requests them, with at most maxSize requested ahead when
+     * set. The cache operations run on each element as it is emitted, see {@link StreamCache#cacheIncrementally},
+     * and queries such as {@link #hasAnyError} answer from them rather than consuming the stream again.
+     * <p>
+     * The stream can only be read once, so the flux accepts a single subscriber and errors any other with an
+     * {@link IllegalStateException} rather than reading the consumed stream again.
+     */
+    public synchronized Flux<ST> flux() {
+        if (this.cached.isCached() || streaming)
+            throw new RuntimeException("Already cached!");
+
+        streaming = true;
+        var subscribed = new AtomicBoolean();
+        var flux = Flux.defer(() -> subscribed.compareAndSet(false, true)
+                ? Flux.fromStream(() -> this.cached.cacheIncrementally(this.res, this.options))
+                : Flux.<ST>error(new IllegalStateException("Stream results can only be subscribed to once.")));
+        return options.maxSize() > 0
+               ? flux.limitRate(options.maxSize())
+               : flux;
+    }
+
+    protected boolean isStreaming() {
+        return streaming;
+    }
+
+    private void throwIfStreaming() {
+        if (streaming)
+            throw new IllegalStateException("Elements were emitted by flux() and are not kept, read them from the flux.");
+    }
+
     public CacheResult<ST> cacheResultsIfNotCachedWithList(Consumer<? super ST> consumer) {
+        throwIfStreaming();
         if (!cached.isCached())
             return this.cached.cacheToList(this.res, consumer);
 
@@ -348,6 +383,8 @@ public abstract class StreamWrapper<C extends CachableStream<ST, C>, ST> impleme
         if (this.cached.isCached())
             throw new RuntimeException("Already cached!");
 
+        throwIfStreaming();
+
         cacheResultsIfNotCached(consumer);
     }
 
@@ -5,7 +5,6 @@ import com.hayden.utilitymodule.result.error.Err;
 import com.hayden.utilitymodule.result.ok.Ok;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.*;
 
@@ -76,8 +75,12 @@ public interface CachingOperations {
 
     record RetrieveRes<T, E>(List<Result<T, E>> results) implements ResultStreamCacheFunction<Result<T, E>, Ok<T>>{
 
+        public RetrieveRes {
+            results = List.copyOf(results);
+        }
+
         public RetrieveRes() {
-            this(new ArrayList<>());
+            this(List.of());
         }
 
         @Override
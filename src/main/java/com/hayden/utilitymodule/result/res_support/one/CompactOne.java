@@ -0,0 +1,213 @@
+package com.hayden.utilitymodule.result.res_support.one;
+
+import com.hayden.utilitymodule.assert_util.AssertUtil;
+import com.hayden.utilitymodule.result.ManyResult;
+import com.hayden.utilitymodule.result.OneResult;
+import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.error.Err;
+import com.hayden.utilitymodule.result.ok.Ok;
+import com.hayden.utilitymodule.result.ok.StdOk;
+import com.hayden.utilitymodule.result.res_support.many.stream.StreamResult;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds only a value or only an error, the shape of {@link Result#ok(Object)} and {@link Result#err(Object)}.
+ * The {@link Ok} and {@link Err} views are created on first use of {@link #r()} or {@link #e()}, so
+ * map, flatMapResult and orElse chains allocate one CompactOne per step. Closable values are left to {@link One}.
+ */
+public final class CompactOne<T, E> implements OneResult<T, E> {
+
+    private static final CompactOne<?, ?> EMPTY = new CompactOne<>(null, null);
+
+    private final T value;
+
+    private final E error;
+
+    /**
+     * Volatile so a view created by one thread is only seen by another once fully constructed.
+     */
+    private volatile Ok<T> ok;
+
+    private volatile Err<E> err;
+
+    private CompactOne(T value, E error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T, E> OneResult<T, E> ok(T value) {
+        if (value instanceof AutoCloseable)
+            return new One<>(new StdOk<>(value), Err.empty());
+        if (value == null)
+            return empty();
+
+        return new CompactOne<>(value, null);
+    }
+
+    public static <T, E> OneResult<T, E> err(E error) {
+        if (error instanceof AutoCloseable)
+            return new One<>(Ok.empty(), Err.err(error));
+        if (error == null)
+            return empty();
+
+        return new CompactOne<>(null, error);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, E> CompactOne<T, E> empty() {
+        return (CompactOne<T, E>) EMPTY;
+    }
+
+    @Override
+    public Ok<T> r() {
+        if (value == null)
+            return Ok.empty();
+
+        var o = ok;
+        if (o == null)
+            ok = o = new StdOk<>(value);
+
+        return o;
+    }
+
+    @Override
+    public Err<E> e() {
+        if (error == null)
+            return Err.empty();
+
+        var e = err;
+        if (e == null)
+            err = e = Err.err(error);
+
+        return e;
+    }
+
+    @Override
+    public T get() {
+        return value;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return value != null;
+    }
+
+    @Override
+    public boolean isOk() {
+        return value != null;
+    }
+
+    @Override
+    public boolean isError() {
+        return value == null;
+    }
+
+    @Override
+    public boolean hasErr() {
+        return error != null;
+    }
+
+    @Override
+    public boolean hasError() {
+        return error != null;
+    }
+
+    @Override
+    public Optional<T> optional() {
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public Optional<T> toOptional() {
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public T orElseRes(T or) {
+        return value != null ? value : or;
+    }
+
+    @Override
+    public T orElseGet(Supplier<T> o) {
+        return value != null ? value : o.get();
+    }
+
+    @Override
+    public T firstResOrElse(T or) {
+        return value != null ? value : or;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> OneResult<U, E> cast() {
+        return (OneResult<U, E>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <V> OneResult<T, V> castError() {
+        return (OneResult<T, V>) this;
+    }
+
+    @Override
+    public <U> OneResult<U, E> map(Function<T, U> mapper) {
+        if (value == null)
+            return cast();
+
+        return ok(mapper.apply(value));
+    }
+
+    @Override
+    public <E1> OneResult<T, E1> mapError(Function<E, E1> mapper) {
+        if (error == null)
+            return castError();
+
+        return err(mapper.apply(error));
+    }
+
+    @Override
+    public <U> ManyResult<U, E> flatMapResult(Function<T, Result<U, E>> mapper) {
+        if (value == null)
+            return cast();
+
+        Result<U, E> ueResult = mapper.apply(value);
+        AssertUtil.assertTrue(() -> !(ueResult instanceof StreamResult<U,E>),
+                () -> "Cannot flatMap from One to StreamResult successfully - call many() first and then flatMapResult instead " +
+                      "of calling flatMapResult to ResultStream on OneResult - or else only returns the first result.");
+
+        if (ueResult.isOkStream())
+            return Result.from(ueResult.toStream().map(Result::ok)).many();
+
+        // holding a value means there is no error of this result to add.
+        if (ueResult instanceof CompactOne<U, E> compact)
+            return compact;
+
+        var s = ueResult.one();
+        return Result.from(s.r(), s.e().addError(this.e()))
+                .one();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CompactOne<?, ?> that
+               && Objects.equals(value, that.value)
+               && Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, error);
+    }
+
+    @Override
+    public String toString() {
+        return value != null
+               ? "CompactOne[value=%s]".formatted(value)
+               : "CompactOne[error=%s]".formatted(error);
+    }
+
+}
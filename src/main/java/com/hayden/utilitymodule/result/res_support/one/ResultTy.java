@@ -26,8 +26,12 @@ import java.util.stream.Stream;
 @AllArgsConstructor
 public abstract class ResultTy<U> {
 
+    /**
+     * Replaced by {@link #set}, so volatile rather than final for an Ok or Err shared between threads to be seen
+     * with its item.
+     */
     @Delegate
-    protected IResultItem<U> t;
+    protected volatile IResultItem<U> t;
 
     public ResultTy(Stream<U> t) {
         this.t = new StreamResultItem<>(t);
@@ -44,7 +48,7 @@ public abstract class ResultTy<U> {
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public ResultTy(Optional<U> t) {
         if (t.isEmpty()) {
-            this.t = new ResultTyResult<>(Optional.empty());
+            this.t = ResultTyResult.empty();
         } else {
             var to = t.get();
 
@@ -2,6 +2,7 @@ package com.hayden.utilitymodule.result.res_ty;
 
 import com.hayden.utilitymodule.result.ManyResult;
 import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.closable.ClosableCleaner;
 import com.hayden.utilitymodule.result.ok.ClosableOk;
 import com.hayden.utilitymodule.result.res_many.IManyResultItem;
 import com.hayden.utilitymodule.result.res_single.ISingleResultItem;
@@ -22,7 +23,10 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
- *
+ * A result created by {@link #opened}, around a resource it opened itself, owns the resource until it is closed or
+ * handed out by any accessor, {@link #get()}, {@link #map}, {@link #peek} and the like. Until then it is registered
+ * with the {@link ClosableCleaner}, which closes the resource if every ClosableResult holding it is collected first.
+ * Results around a resource the caller already holds are never registered.
  *
  * @param r
  * @param <R>
@@ -42,6 +46,16 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
         this(r, null, onClose, new AtomicBoolean(false));
     }
 
+    /**
+     * For a resource opened on behalf of the result, which owns it until it is handed out.
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public static <R extends AutoCloseable> ClosableResult<R> opened(Optional<R> r, Callable<Void> onClose) {
+        var opened = new ClosableResult<>(r, onClose);
+        r.ifPresent(resource -> ClosableCleaner.register(opened, resource));
+        return opened;
+    }
+
     @Override
     public IManyResultItem<R> many() {
         throw new UnsupportedOperationException("Many result items not supported for closable types.");
@@ -56,14 +70,14 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
     public Stream<R> stream() {
         // TODO: should this fail?
         log.warn("Calling close after terminate on stream for result AutoClosable.");
-        return r.stream().onClose(this::doClose);
+        return handOff().stream().onClose(this::doClose);
     }
 
     @Override
     public Flux<R> flux() {
         // TODO: should this fail?
         log.warn("Calling close after terminate on flux for result AutoClosable.");
-        return r.map(Flux::just)
+        return handOff().map(Flux::just)
                 .orElse(Flux.empty())
                 .doAfterTerminate(this::doClose);
     }
@@ -72,7 +86,7 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
     public Mono<R> firstMono() {
         // TODO: should this fail?
         log.warn("Calling close after terminate on mono for result AutoClosable.");
-        return Mono.justOrEmpty(r).doAfterTerminate(this::doClose);
+        return Mono.justOrEmpty(handOff()).doAfterTerminate(this::doClose);
     }
 
     @Override
@@ -80,7 +94,7 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
         // TODO: should this fail?
         if (!closed.get())
             Result.logClosableMaybeNotClosed();
-        return r();
+        return handOff();
     }
 
     @Override
@@ -109,7 +123,7 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
 
     @Override
     public IResultItem<R> filter(Predicate<R> p) {
-        return from(r.filter(p));
+        return from(handOff().filter(p));
     }
 
     @Override
@@ -118,16 +132,24 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
             callOrElse();
             Result.logClosableMaybeNotClosed();
         }
-        return this.r.orElse(null);
+        return handOff().orElse(null);
     }
 
     public R getClosableQuietly() {
-        return this.r.orElse(null);
+        return handOff().orElse(null);
+    }
+
+    /**
+     * The caller owns the resource from here, so it is no longer closed when this is collected.
+     */
+    private Optional<R> handOff() {
+        r.ifPresent(ClosableCleaner::release);
+        return r;
     }
 
     @Override
     public <T> IResultItem<T> flatMap(Function<R, IResultItem<T>> toMap) {
-        return r.map(t -> {
+        return handOff().map(t -> {
                     var applied = toMap.apply(t);
 
                     if (isSameClosable(t, applied))
@@ -171,7 +193,7 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
 
     @Override
     public <T> IResultItem<T> map(Function<R, T> toMap) {
-        return from(r.map(m -> {
+        return from(handOff().map(m -> {
             var toApply = toMap.apply(m);
             if (isSameClosable(m, toApply)) {
                 doClose();
@@ -183,7 +205,7 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
 
     @Override
     public Optional<R> optional() {
-        return r;
+        return handOff();
     }
 
     @Override
@@ -192,7 +214,7 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
             callOrElse();
             Result.logClosableMaybeNotClosed();
         }
-        return r.orElse(o);
+        return handOff().orElse(o);
     }
 
     @Override
@@ -201,7 +223,7 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
             callOrElse();
             Result.logClosableMaybeNotClosed();
         }
-        return r.orElseGet(o);
+        return handOff().orElseGet(o);
     }
 
     private static void callOrElse() {
@@ -210,12 +232,12 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
 
     @Override
     public void ifPresent(Consumer<? super R> consumer) {
-        r.ifPresent(consumer);
+        handOff().ifPresent(consumer);
         doClose();
     }
 
     public void doWithoutClosing(Consumer<? super R> consumer) {
-        r.ifPresent(consumer);
+        handOff().ifPresent(consumer);
     }
 
     public void doClose() {
@@ -251,7 +273,7 @@ public record ClosableResult<R extends AutoCloseable>(Optional<R> r, @Nullable E
 
     @Override
     public ClosableResult<R> peek(Consumer<? super R> consumer) {
-        r.ifPresent(consumer);
+        handOff().ifPresent(consumer);
         return this;
     }
 
@@ -34,7 +34,7 @@ public interface IResultItem<R> extends Result.Monadic<R> {
     }
 
     static <R> IResultItem<R> empty() {
-        return new ResultTyResult<>(Optional.empty());
+        return ResultTyResult.empty();
     }
 
     default boolean isClosable() {
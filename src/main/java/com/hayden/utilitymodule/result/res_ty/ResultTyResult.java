@@ -15,15 +15,22 @@ import java.util.stream.Stream;
 @Slf4j
 public record ResultTyResult<R>(Optional<R> r) implements ISingleResultItem<R> {
 
+    private static final ResultTyResult<?> EMPTY = new ResultTyResult<>(Optional.empty());
+
+    @SuppressWarnings("unchecked")
+    public static <R> ResultTyResult<R> empty() {
+        return (ResultTyResult<R>) EMPTY;
+    }
+
     public <T> IResultItem<T> flatMap(Function<R, IResultItem<T>> toMap) {
         if (r().isEmpty())
-            return from(Optional.empty());
+            return empty();
         return toMap.apply(r().get());
     }
 
     public <T> IResultItem<T> map(Function<R, T> toMap) {
         if (r().isEmpty())
-            return from(Optional.empty());
+            return empty();
         return from(r().map(toMap));
     }
 
@@ -100,7 +107,7 @@ public record ResultTyResult<R>(Optional<R> r) implements ISingleResultItem<R> {
 
     @Override
     public <T> IResultItem<T> from(Optional<T> r) {
-        return new ResultTyResult<>(r);
+        return r.isEmpty() ? empty() : new ResultTyResult<>(r);
     }
 
     @Override
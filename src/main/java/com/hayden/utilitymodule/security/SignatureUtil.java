@@ -1,6 +1,7 @@
 package com.hayden.utilitymodule.security;
 
 import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.error.LazyStackTrace;
 import com.hayden.utilitymodule.result.error.SingleError;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -25,10 +26,19 @@ import java.util.Set;
 @Slf4j
 public class SignatureUtil {
 
-    public record SignatureErr(String getMessage) implements SingleError {
+    public record SignatureErr(String message, LazyStackTrace trace) implements SingleError {
+
+        public SignatureErr(String message) {
+            this(message, null);
+        }
 
         public SignatureErr(Throwable message) {
-            this(SingleError.parseStackTraceToString(message));
+            this(null, new LazyStackTrace(message));
+        }
+
+        @Override
+        public String getMessage() {
+            return trace == null ? message : trace.get();
         }
     }
 
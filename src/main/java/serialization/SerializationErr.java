@@ -1,11 +1,21 @@
 package serialization;
 
+import com.hayden.utilitymodule.result.error.LazyStackTrace;
 import com.hayden.utilitymodule.result.error.SingleError;
 
-public record SerializationErr(String getMessage) implements SingleError {
+public record SerializationErr(String message, LazyStackTrace trace) implements SingleError {
+
+    public SerializationErr(String message) {
+        this(message, null);
+    }
 
     public SerializationErr(Throwable th) {
-        this(SingleError.parseStackTraceToString(th));
+        this(null, new LazyStackTrace(th));
+    }
+
+    @Override
+    public String getMessage() {
+        return trace == null ? message : trace.get();
     }
 
 }
@@ -0,0 +1,113 @@
+package com.hayden.utilitymodule.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OnceCellTest {
+
+    @Test
+    public void supplierRunsOnceUnderContention() throws Exception {
+        var calls = new AtomicInteger();
+        var cell = new OnceCell<>(() -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return new Object();
+        });
+
+        var start = new CountDownLatch(1);
+        List<Future<Object>> values = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                values.add(executor.submit(() -> {
+                    start.await();
+                    return cell.get();
+                }));
+            }
+            start.countDown();
+
+            var first = values.getFirst().get(10, TimeUnit.SECONDS);
+            for (var v : values) {
+                assertThat(v.get(10, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        }
+
+        assertThat(calls.get()).isOne();
+        assertThat(cell.isInitialized()).isTrue();
+    }
+
+    @Test
+    public void failedSupplierIsRetried() {
+        var calls = new AtomicInteger();
+        var cell = new OnceCell<>(() -> {
+            if (calls.incrementAndGet() == 1)
+                throw new IllegalStateException("First call fails.");
+            return "value";
+        });
+
+        assertThatThrownBy(cell::get).isInstanceOf(IllegalStateException.class);
+        assertThat(cell.getIfPresent()).isEmpty();
+        assertThat(cell.get()).isEqualTo("value");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void expiringAndReset() throws InterruptedException {
+        var calls = new AtomicInteger();
+        var cell = OnceCell.expiring(calls::incrementAndGet, Duration.ofMillis(50));
+
+        assertThat(cell.get()).isEqualTo(1);
+        assertThat(cell.get()).isEqualTo(1);
+        Thread.sleep(100);
+        assertThat(cell.getIfPresent()).isEmpty();
+        assertThat(cell.get()).isEqualTo(2);
+
+        cell.reset();
+        assertThat(cell.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void asyncSharesOneFutureWithoutExposingIt() throws Exception {
+        var calls = new AtomicInteger();
+        var pending = new CompletableFuture<String>();
+        var cell = OnceCell.async(() -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+
+        var first = cell.get();
+        var second = cell.get();
+        assertThat(first).isNotDone();
+
+        assertThat(first.cancel(true)).isTrue();
+        second.obtrudeValue("obtruded");
+        assertThat(pending).isNotDone();
+        assertThat(cell.get()).isNotDone();
+
+        pending.complete("value");
+        assertThat(cell.get().get(1, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(calls.get()).isOne();
+
+        var failing = OnceCell.async(() -> calls.incrementAndGet() == 2
+                ? CompletableFuture.<String>failedFuture(new IllegalStateException("First call fails."))
+                : CompletableFuture.completedFuture("retried"));
+        assertThat(failing.get()).isCompletedExceptionally();
+        assertThat(failing.get().get(1, TimeUnit.SECONDS)).isEqualTo("retried");
+    }
+
+}
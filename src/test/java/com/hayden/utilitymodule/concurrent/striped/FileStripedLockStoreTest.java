@@ -0,0 +1,134 @@
+package com.hayden.utilitymodule.concurrent.striped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileStripedLockStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void excludesOtherStoresUntilReleased() throws InterruptedException {
+        var first = new FileStripedLockStore(directory, 64, Duration.ofMinutes(1));
+        var second = new FileStripedLockStore(directory, 64, Duration.ofMinutes(1));
+
+        var held = first.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ZERO).orElseThrow();
+        assertThat(second.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ofMillis(50))).isEmpty();
+
+        held.close();
+        try (var next = second.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ZERO).orElseThrow()) {
+            assertThat(next.fencingToken("key")).isGreaterThan(held.fencingToken("key"));
+        }
+    }
+
+    @Test
+    public void expiredLeaseIsTakenOver() throws InterruptedException {
+        var first = new FileStripedLockStore(directory, 64, Duration.ofMillis(100));
+        var second = new FileStripedLockStore(directory, 64, Duration.ofMinutes(1));
+
+        var expiring = first.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ZERO).orElseThrow();
+        try (var next = second.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ofSeconds(5)).orElseThrow()) {
+            assertThat(expiring.isValid()).isFalse();
+            assertThat(next.fencingToken("key")).isGreaterThan(expiring.fencingToken("key"));
+            expiring.close();
+            assertThat(first.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ofMillis(50))).isEmpty();
+        }
+    }
+
+    @Test
+    public void renewedLeaseIsNotTakenOver() throws InterruptedException {
+        var first = new FileStripedLockStore(directory, 64, Duration.ofMillis(100));
+        var second = new FileStripedLockStore(directory, 64, Duration.ofMinutes(1));
+
+        var held = first.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ZERO).orElseThrow();
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(50);
+            assertThat(held.renew()).isTrue();
+        }
+
+        assertThat(held.isValid()).isTrue();
+        assertThat(second.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ZERO)).isEmpty();
+        held.close();
+        assertThat(held.renew()).isFalse();
+    }
+
+    @Test
+    public void aspectRenewsTheLeaseWhileTheMethodRuns() throws Exception {
+        var other = new FileStripedLockStore(directory, 64, Duration.ofMinutes(1));
+        var factory = new AspectJProxyFactory(new Slow());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new StripedLockAspect(new FileStripedLockStore(directory, 64, Duration.ofMillis(100))));
+        Slow slow = factory.getProxy();
+
+        var entered = new CountDownLatch(1);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var running = executor.submit(() -> slow.hold("key", entered));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(250);
+            assertThat(other.acquire(List.of("key"), StripedLock.Mode.WRITE, Duration.ZERO)).isEmpty();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    public static class Slow {
+
+        @StripedLock
+        public boolean hold(String key, CountDownLatch entered) throws InterruptedException {
+            entered.countDown();
+            Thread.sleep(400);
+            return StripedLockAspect.currentLease().orElseThrow().isValid();
+        }
+    }
+
+    @Test
+    public void nestedAcquireOnTheSameThreadIsReentrant() throws InterruptedException {
+        var store = new FileStripedLockStore(directory, 64, Duration.ofMinutes(1));
+
+        try (var outer = store.acquire(List.of("a", "b"), StripedLock.Mode.WRITE, Duration.ZERO).orElseThrow();
+             var inner = store.acquire(List.of("b"), StripedLock.Mode.WRITE, Duration.ZERO).orElseThrow()) {
+            assertThat(inner.fencingToken("b")).isEqualTo(outer.fencingToken("b"));
+        }
+
+        assertThat(store.acquire(List.of("a", "b"), StripedLock.Mode.WRITE, Duration.ZERO)).isPresent();
+    }
+
+    @Test
+    public void onlyTheOutermostLeaseRenewsAndRenewalsAcrossStoresDoNotOverlap() throws Exception {
+        var store = new FileStripedLockStore(directory, 64, Duration.ofMinutes(1));
+        var other = new FileStripedLockStore(directory, 64, Duration.ofMinutes(1));
+
+        try (var outer = store.acquire(List.of("a"), StripedLock.Mode.WRITE, Duration.ZERO).orElseThrow();
+             var inner = store.acquire(List.of("a"), StripedLock.Mode.WRITE, Duration.ZERO).orElseThrow();
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertThat(outer.duration()).isPresent();
+            assertThat(inner.duration()).isEmpty();
+
+            var otherKeys = IntStream.range(0, 32).mapToObj(i -> "b" + i)
+                    .filter(k -> other.stripe(k) != other.stripe("a"))
+                    .toList();
+            var leases = executor.submit(() -> {
+                for (int i = 0; i < 50; i++) {
+                    other.acquire(otherKeys, StripedLock.Mode.WRITE, Duration.ofSeconds(5)).orElseThrow().close();
+                }
+                return true;
+            });
+            for (int i = 0; i < 50; i++) {
+                assertThat(outer.renew()).isTrue();
+            }
+            assertThat(leases.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+}
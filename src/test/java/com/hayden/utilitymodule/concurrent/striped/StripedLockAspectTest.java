@@ -1,18 +1,83 @@
 package com.hayden.utilitymodule.concurrent.striped;
 
 import com.google.common.util.concurrent.Striped;
+import com.hayden.utilitymodule.result.Result;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.aspectj.lang.reflect.SourceLocation;
 import org.aspectj.runtime.internal.AroundClosure;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 
 class StripedLockAspectTest {
 
+    public static class Store {
+
+        final AtomicInteger transfers = new AtomicInteger();
+
+        @StripedLock(mode = StripedLock.Mode.READ)
+        public boolean read(String key, CountDownLatch readers) throws InterruptedException {
+            readers.countDown();
+            return readers.await(5, TimeUnit.SECONDS);
+        }
+
+        @StripedLock(timeoutMillis = 50)
+        public Result<String, StripedLockTimeout> write(String key, CountDownLatch held, CountDownLatch release) throws InterruptedException {
+            held.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Result.ok(key);
+        }
+
+        @StripedLock(keyArgs = {0, 1})
+        public void transfer(String from, String to) {
+            transfers.incrementAndGet();
+        }
+
+        final int[] counts = new int[1_000];
+
+        @StripedLock
+        public void increment(int key) {
+            var count = counts[key];
+            Thread.yield();
+            counts[key] = count + 1;
+        }
+
+        final AtomicInteger entered = new AtomicInteger();
+
+        @StripedLock
+        public CompletableFuture<String> async(String key, CompletableFuture<String> gate) {
+            entered.incrementAndGet();
+            return gate;
+        }
+
+        @StripedLock(mode = StripedLock.Mode.READ)
+        public void readThenWrite(String key, Store self) {
+            self.transfer(key, key);
+        }
+
+        @StripedLock
+        public CompletableFuture<Thread> asyncThread(String key) {
+            return CompletableFuture.completedFuture(Thread.currentThread());
+        }
+
+        @StripedLock
+        public Thread awaitAsync(String key, Store self) throws Exception {
+            return self.asyncThread(key).get(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testStripedLock() {
         Striped<Lock> lockStriped = Striped.lock(1024);
@@ -22,4 +87,147 @@ class StripedLockAspectTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void readersShareAKey() throws Exception {
+        var store = proxy(new Store());
+        var readers = new CountDownLatch(2);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Boolean> first = executor.submit(() -> store.read("key", readers));
+            Future<Boolean> second = executor.submit(() -> store.read("key", readers));
+            assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(second.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    public void timeoutReturnsError() throws Exception {
+        var store = proxy(new Store());
+        var held = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var holder = executor.submit(() -> store.write("key", held, release));
+            assertTrue(held.await(5, TimeUnit.SECONDS));
+
+            var timedOut = store.write("key", new CountDownLatch(1), new CountDownLatch(0));
+            assertThat(timedOut.isError()).isTrue();
+            assertThat(timedOut.e().get()).isInstanceOf(StripedLockTimeout.class);
+
+            release.countDown();
+            assertThat(holder.get(10, TimeUnit.SECONDS).isOk()).isTrue();
+        }
+    }
+
+    @Test
+    public void opposingKeyOrdersDoNotDeadlock() throws Exception {
+        var target = new Store();
+        var store = proxy(target);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.submit(() -> store.transfer("a", "b"));
+                executor.submit(() -> store.transfer("b", "a"));
+            }
+        }
+
+        assertThat(target.transfers.get()).isEqualTo(2_000);
+    }
+
+    @Test
+    public void manyVirtualThreadsDoNotStarveCarriers() throws Exception {
+        var target = new Store();
+        var store = proxy(target);
+        var start = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100_000; i++) {
+                int key = i % 1_000;
+                executor.submit(() -> store.increment(key));
+            }
+
+            var probe = executor.submit(() -> System.nanoTime());
+            assertThat(probe.get(5, TimeUnit.SECONDS)).isGreaterThan(start);
+        }
+
+        for (var count : target.counts) {
+            assertThat(count).isEqualTo(100);
+        }
+    }
+
+    @Test
+    public void asyncHoldsTheKeyUntilCompletion() throws Exception {
+        var target = new Store();
+        var store = proxy(target);
+        var gate = new CompletableFuture<String>();
+
+        var first = store.async("key", gate);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var second = executor.submit(() -> store.async("key", CompletableFuture.completedFuture("second")).get());
+
+            Thread.sleep(100);
+            assertThat(target.entered.get()).isOne();
+            assertThat(second).isNotDone();
+
+            executor.submit(() -> gate.complete("first"));
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+            assertThat(target.entered.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void upgradingAReadLockFailsFast() {
+        var target = new Store();
+        var store = proxy(target);
+
+        assertThatThrownBy(() -> store.readThenWrite("key", store))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("upgrade");
+        store.transfer("key", "key");
+        assertThat(target.transfers.get()).isOne();
+    }
+
+    @Test
+    public void asyncRunsOnTheCallerAndReentersItsLease() throws Exception {
+        var store = proxy(new Store());
+
+        assertThat(store.asyncThread("key").get(5, TimeUnit.SECONDS)).isSameAs(Thread.currentThread());
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var nested = executor.submit(() -> store.awaitAsync("key", store));
+            assertThat(nested.get(5, TimeUnit.SECONDS)).isNotSameAs(Thread.currentThread());
+        }
+        assertThat(store.asyncThread("key").get(5, TimeUnit.SECONDS)).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void cancellingAnAsyncResultReleasesTheKey() throws Exception {
+        var target = new Store();
+        var store = proxy(target);
+        var gate = new CompletableFuture<String>();
+
+        var first = store.async("key", gate);
+        Thread.sleep(100);
+        assertThat(first.cancel(true)).isTrue();
+        assertThat(gate.isCancelled()).isTrue();
+
+        var second = store.async("key", CompletableFuture.completedFuture("second"));
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+
+        var pending = new CompletableFuture<String>();
+        var early = store.async("key", pending);
+        early.complete("early");
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var third = executor.submit(() -> store.async("key", CompletableFuture.completedFuture("third")).get());
+            Thread.sleep(100);
+            assertThat(third).isNotDone();
+
+            pending.complete("done");
+            assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("third");
+        }
+    }
+
+    private static Store proxy(Store target) {
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new StripedLockAspect(new LocalStripedLockStore(16)));
+        return factory.getProxy();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.hayden.utilitymodule.db;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.StructuredTaskScope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DbDataSourceTriggerTest {
+
+    @Test
+    public void globalKeyAdvancesEpoch() {
+        var trigger = new DbDataSourceTrigger();
+        assertThat(trigger.currentKey()).isEqualTo(DbDataSourceTrigger.VALIDATION_DB_KEY);
+        long epoch = trigger.epoch();
+
+        trigger.setGlobalCurrentKey(DbDataSourceTrigger.APP_DB_KEY);
+
+        assertThat(trigger.currentKey()).isEqualTo(DbDataSourceTrigger.APP_DB_KEY);
+        assertThat(trigger.epoch()).isEqualTo(epoch + 1);
+    }
+
+    @Test
+    public void scopedKeyPropagatesToSubtasks() {
+        var trigger = new DbDataSourceTrigger();
+
+        var forked = trigger.doOnScopedKey("custom", () -> {
+            try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+                var subtask = scope.fork(trigger::currentKey);
+                scope.join().throwIfFailed();
+                return subtask.get();
+            }
+        });
+
+        assertThat(forked).isEqualTo("custom");
+        assertThat(trigger.currentKey()).isEqualTo(DbDataSourceTrigger.VALIDATION_DB_KEY);
+
+        var nested = trigger.doOnKey(sk -> {
+            sk.setKey(DbDataSourceTrigger.APP_DB_KEY);
+            return trigger.doOnScopedKey("custom", trigger::currentKey);
+        });
+        assertThat(nested).isEqualTo("custom");
+    }
+
+    @Test
+    public void scopedKeyRethrowsUnchanged() {
+        var trigger = new DbDataSourceTrigger();
+
+        assertThatThrownBy(() -> trigger.doOnScopedKey("custom", () -> {
+            throw new IOException("checked");
+        })).isExactlyInstanceOf(IOException.class);
+        assertThatThrownBy(() -> trigger.doOnScopedKey("custom", () -> {
+            throw new IllegalStateException("unchecked");
+        })).isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(trigger.currentKey()).isEqualTo(DbDataSourceTrigger.VALIDATION_DB_KEY);
+    }
+
+    @Test
+    public void registersKeysToWarm() {
+        var trigger = new DbDataSourceTrigger();
+        assertThat(trigger.knownKeys())
+                .containsExactlyInAnyOrder(DbDataSourceTrigger.APP_DB_KEY, DbDataSourceTrigger.VALIDATION_DB_KEY);
+
+        assertThat(trigger.registerKey("custom")).isTrue();
+        assertThat(trigger.registerKey("custom")).isFalse();
+        assertThat(trigger.knownKeys()).contains("custom");
+    }
+
+}
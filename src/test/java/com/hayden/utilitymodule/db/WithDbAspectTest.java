@@ -0,0 +1,65 @@
+package com.hayden.utilitymodule.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WithDbAspectTest {
+
+    static class CountingTrigger extends DbDataSourceTrigger {
+
+        final Map<String, AtomicInteger> registered = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean registerKey(String key) {
+            registered.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            return super.registerKey(key);
+        }
+    }
+
+    public static class OnMethod {
+
+        @WithDb("method_key")
+        public String key(DbDataSourceTrigger trigger) {
+            return trigger.currentKey();
+        }
+    }
+
+    @WithDb("class_key")
+    public static class OnClass {
+
+        public String key(DbDataSourceTrigger trigger) {
+            return trigger.currentKey();
+        }
+    }
+
+    @Test
+    public void resolvesTheAnnotationOncePerSite() {
+        var trigger = new CountingTrigger();
+        OnMethod onMethod = proxy(new OnMethod(), trigger);
+        OnClass onClass = proxy(new OnClass(), trigger);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(onMethod.key(trigger)).isEqualTo("method_key");
+            assertThat(onClass.key(trigger)).isEqualTo("class_key");
+        }
+
+        assertThat(trigger.registered.get("method_key")).hasValue(1);
+        assertThat(trigger.registered.get("class_key")).hasValue(1);
+        assertThat(trigger.knownKeys()).contains("method_key", "class_key");
+        assertThat(trigger.currentKey()).isEqualTo(DbDataSourceTrigger.VALIDATION_DB_KEY);
+    }
+
+    private static <T> T proxy(T target, DbDataSourceTrigger trigger) {
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new WithDbAspect(trigger));
+        return factory.getProxy();
+    }
+
+}
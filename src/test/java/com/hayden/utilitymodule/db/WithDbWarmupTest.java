@@ -0,0 +1,53 @@
+package com.hayden.utilitymodule.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WithDbWarmupTest {
+
+    public static class MethodKeyed {
+
+        @WithDb("warm_method")
+        public void run() {}
+    }
+
+    @WithDb("warm_class")
+    public static class ClassKeyed {}
+
+    public static class RecordingWarmer implements DbKeyWarmer {
+
+        final List<String> warmed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void warm(String key) {
+            warmed.add(key);
+        }
+    }
+
+    public static class FailingWarmer implements DbKeyWarmer {
+
+        @Override
+        public void warm(String key) {
+            throw new IllegalStateException("Pool for %s could not open.".formatted(key));
+        }
+    }
+
+    @Test
+    public void warmsEveryKeyAndSurvivesAFailingWarmer() {
+        try (var context = new AnnotationConfigApplicationContext(
+                DbDataSourceTrigger.class, WithDbWarmup.class, MethodKeyed.class, ClassKeyed.class,
+                FailingWarmer.class, RecordingWarmer.class)) {
+            var warmed = context.getBean(RecordingWarmer.class).warmed;
+
+            assertThat(warmed).containsExactlyInAnyOrder(
+                    DbDataSourceTrigger.APP_DB_KEY, DbDataSourceTrigger.VALIDATION_DB_KEY, "warm_method", "warm_class");
+            assertThat(context.getBean(DbDataSourceTrigger.class).knownKeys()).contains("warm_method", "warm_class");
+        }
+    }
+
+}
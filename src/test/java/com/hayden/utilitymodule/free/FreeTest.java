@@ -1,15 +1,22 @@
 package com.hayden.utilitymodule.free;
 
 import com.hayden.utilitymodule.result.Result;
+import com.hayden.utilitymodule.result.async.ResultSchedulers;
 import com.hayden.utilitymodule.result.error.SingleError;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @Slf4j
 class FreeTest {
@@ -124,6 +131,110 @@ class FreeTest {
 
     }
 
+    @Test
+    public void deepBinds() {
+        Interpreter<CountEffect, Integer> reads = read -> switch (read) {
+            case CountEffect.Read r -> Free.pure(r.key());
+        };
+
+        Free<CountEffect, Integer> leftNested = Free.liftF(new CountEffect.Read(0));
+        for (int i = 0; i < 1_000_000; i++) {
+            leftNested = leftNested.flatMap(x -> Free.pure(x + 1));
+        }
+        assertThat(Free.parse(leftNested, reads)).isEqualTo(1_000_000);
+
+        assertThat(Free.parse(countDown(1_000_000), reads)).isZero();
+    }
+
+    @Test
+    public void parallelBatchesEffects() {
+        List<Integer> batchSizes = new ArrayList<>();
+        var reads = new Interpreter<CountEffect, Integer>() {
+            @Override
+            public Free<CountEffect, Integer> apply(CountEffect read) {
+                return switch (read) {
+                    case CountEffect.Read r -> Free.pure(r.key());
+                };
+            }
+
+            @Override
+            public List<Free<CountEffect, Integer>> applyAll(List<CountEffect> effects) {
+                batchSizes.add(effects.size());
+                return Interpreter.super.applyAll(effects);
+            }
+        };
+
+        var branches = IntStream.range(0, 100)
+                .mapToObj(i -> Free.<CountEffect, Integer>liftF(new CountEffect.Read(i))
+                        .flatMap(x -> Free.<CountEffect, Integer>liftF(new CountEffect.Read(x * 2))))
+                .toList();
+        var summed = Free.parallel(branches)
+                .flatMap(l -> Free.<CountEffect, Integer>pure(l.stream().mapToInt(Integer::intValue).sum()));
+
+        assertThat(Free.parse(summed, reads)).isEqualTo(9900);
+        assertThat(batchSizes).containsExactly(100, 100);
+    }
+
+    @Test
+    public void parseAsync() throws Exception {
+        Interpreter<CountEffect, Integer> reads = read -> switch (read) {
+            case CountEffect.Read r -> Free.pure(r.key());
+        };
+        var async = AsyncInterpreter.of(reads);
+
+        assertThat(Free.parseAsync(countDown(10_000), async).get(10, TimeUnit.SECONDS)).isZero();
+
+        var started = new CountDownLatch(10);
+        AsyncInterpreter<CountEffect, Integer> awaitingAll = read -> CompletableFuture.<Free<CountEffect, Integer>>supplyAsync(() -> {
+            started.countDown();
+            try {
+                return started.await(10, TimeUnit.SECONDS)
+                        ? Free.pure(((CountEffect.Read) read).key())
+                        : Free.err("Branches did not run concurrently.");
+            } catch (InterruptedException e) {
+                return Free.err(e.getMessage(), e);
+            }
+        }, ResultSchedulers.executor());
+        var summed = Free.parallel(IntStream.range(0, 10)
+                        .mapToObj(i -> Free.<CountEffect, Integer>liftF(new CountEffect.Read(i)))
+                        .toList())
+                .flatMap(l -> Free.<CountEffect, Integer>pure(l.stream().mapToInt(Integer::intValue).sum()));
+        assertThat(Free.parseAsync(summed, awaitingAll).get(10, TimeUnit.SECONDS)).isEqualTo(45);
+
+        var pending = new CompletableFuture<Free<CountEffect, Integer>>();
+        var run = Free.parseAsync(Free.<CountEffect, Integer>liftF(new CountEffect.Read(1)), read -> pending);
+        assertThat(run.cancel(true)).isTrue();
+        assertThat(pending.isCancelled()).isTrue();
+
+        List<CompletableFuture<Free<CountEffect, Integer>>> branchEffects = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            branchEffects.add(new CompletableFuture<>());
+        }
+        var branches = Free.parallel(IntStream.range(0, 3)
+                        .mapToObj(i -> Free.<CountEffect, Integer>liftF(new CountEffect.Read(i)))
+                        .toList())
+                .flatMap(l -> Free.<CountEffect, Integer>pure(l.size()));
+        var parallelRun = Free.parseAsync(branches, read -> branchEffects.get(((CountEffect.Read) read).key()));
+        assertThat(parallelRun.cancel(true)).isTrue();
+        assertThat(branchEffects).allMatch(CompletableFuture::isCancelled);
+
+        List<CompletableFuture<Free<CountEffect, Integer>>> siblings = new ArrayList<>();
+        siblings.add(CompletableFuture.completedFuture(Free.err("Branch failed.")));
+        siblings.add(new CompletableFuture<>());
+        siblings.add(new CompletableFuture<>());
+        Free.parseAsync(branches, read -> siblings.get(((CountEffect.Read) read).key()));
+        assertThat(siblings.subList(1, 3)).allMatch(CompletableFuture::isCancelled);
+    }
+
+    private static Free<CountEffect, Integer> countDown(int n) {
+        return Free.<CountEffect, Integer>liftF(new CountEffect.Read(n))
+                .flatMap(x -> x == 0 ? Free.<CountEffect, Integer>pure(0) : countDown(x - 1));
+    }
+
+    sealed interface CountEffect extends Effect {
+        record Read(int key) implements CountEffect {}
+    }
+
     private static RetrievePromptEffect.RetrievePromptArgs doParse(Free<RetrievePromptEffect, RetrievePromptEffect.RetrievePromptArgs> instructionSet, Function<RetrievePromptEffect, Free<RetrievePromptEffect, RetrievePromptEffect.RetrievePromptArgs>> interpreter) {
         var e = Free.parse(instructionSet, new Interpreter<>() {
             @Override
@@ -1,6 +1,7 @@
 package com.hayden.utilitymodule.io;
 
 
+import com.hayden.utilitymodule.result.closable.ClosableCleaner;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -202,4 +203,26 @@ public class FileUtilsTest {
         assertThat(p.isOk()).isTrue();
         assertThat(p.unwrap().toString()).isEqualTo(tempDir.resolve("commit-diff-context/src/another-thing/java/com/hayden/commit-diff-context/ok/Ok.java").toString());
     }
+    @Test
+    @SneakyThrows
+    public void abandonedLazyIteratorIsClosed() {
+        var file = testDir.resolve("lines.txt");
+        Files.writeString(file, "one\ntwo\nthree\n");
+        long reclaimed = ClosableCleaner.reclaimed();
+
+        readFirstLine(file.toFile());
+
+        for (int i = 0; i < 50 && ClosableCleaner.reclaimed() == reclaimed; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        assertThat(ClosableCleaner.reclaimed()).isGreaterThan(reclaimed);
+    }
+
+    private static void readFirstLine(File file) {
+        var iter = FileUtils.readToLazyIterator(file).unwrap();
+        assertThat(iter.next()).isEqualTo("one");
+    }
+
 }
@@ -1,19 +1,43 @@
 package com.hayden.utilitymodule.result;
 
 import com.hayden.utilitymodule.result.agg.AggregateError;
+import com.hayden.utilitymodule.result.async.BlockingCalls;
+import com.hayden.utilitymodule.result.async.Cancellation;
+import com.hayden.utilitymodule.result.async.CompletableFutureResult;
+import com.hayden.utilitymodule.result.async.DeadlineExceeded;
+import com.hayden.utilitymodule.result.async.ForkAll;
+import com.hayden.utilitymodule.result.async.IAsyncResultItem;
+import com.hayden.utilitymodule.result.async.MonoResult;
+import com.hayden.utilitymodule.result.closable.ClosableMonitor;
+import com.hayden.utilitymodule.result.error.LazyStackTrace;
 import com.hayden.utilitymodule.result.error.SingleError;
+import com.hayden.utilitymodule.result.error.StackTraces;
+import com.hayden.utilitymodule.result.error.ThrowableError;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import serialization.SerializationErr;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.hayden.utilitymodule.result.ResultTestModel.singleMessage;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ResultTest {
@@ -339,4 +363,259 @@ public class ResultTest {
         Assertions.assertTrue(hello.e().isEmpty());
     }
 
+    @Test
+    public void testLazyStackTrace() {
+        var thrown = new RuntimeException("failed");
+        var err = SingleError.fromE(thrown);
+
+        assertThat(err).isInstanceOf(ThrowableError.class);
+        assertThat(err.getMessage()).startsWith("failed\n").contains("testLazyStackTrace");
+        assertThat(err.getMessage()).isSameAs(err.getMessage());
+        assertThat(new ThrowableError(thrown).isError()).isTrue();
+        assertThat(new ThrowableError(thrown).toString()).doesNotContain("testLazyStackTrace");
+
+        var serializationErr = new SerializationErr(thrown);
+        assertThat(serializationErr.getMessage()).isSameAs(serializationErr.getMessage());
+        assertThat(serializationErr).isEqualTo(new SerializationErr(thrown));
+        assertThat(serializationErr.toString()).doesNotContain("testLazyStackTrace");
+        assertThat(new LazyStackTrace(failed("failed"))).isEqualTo(new LazyStackTrace(failed("failed")))
+                .hasSameHashCodeAs(new LazyStackTrace(failed("failed")))
+                .isNotEqualTo(new LazyStackTrace(failed("other")))
+                .isNotEqualTo(new LazyStackTrace(thrown));
+
+        try {
+            StackTraces.setStackless(true);
+            assertThat(SingleError.fromE(thrown).getMessage()).isEqualTo("failed");
+        } finally {
+            StackTraces.setStackless(false);
+        }
+
+        try {
+            StackTraces.setMaxDepth(1);
+            assertThat(SingleError.parseStackTraceToString(thrown).lines()).hasSize(1);
+        } finally {
+            StackTraces.setMaxDepth(0);
+        }
+    }
+
+    @Test
+    public void testCompactOne() {
+        assertThat(Result.empty()).isSameAs(Result.empty());
+        assertThat(Result.<String, SingleError>ok((String) null)).isSameAs(Result.empty());
+
+        var found = Result.<Integer, SingleError>ok(1)
+                .map(i -> i + 1)
+                .flatMapResult(i -> Result.ok(i * 10))
+                .one()
+                .orElseRes(0);
+
+        assertThat(found).isEqualTo(20);
+
+        var err = Result.<Integer, SingleError>err(SingleError.fromMessage("failed"))
+                .map(i -> i + 1);
+
+        assertThat(err.isError()).isTrue();
+        assertThat(err.e().get().getMessage()).isEqualTo("failed");
+        assertThat(err.r().isEmpty()).isTrue();
+
+        var rendered = new AtomicInteger();
+        SingleError counting = () -> "rendered %s".formatted(rendered.incrementAndGet());
+        assertThat(Result.<Integer, SingleError>err(counting).map(i -> i + 1).isError()).isTrue();
+        assertThat(rendered.get()).isZero();
+    }
+
+    @Test
+    public void testDeadline() {
+        BlockingCalls.setEnabled(true);
+        try {
+            var late = new MonoResult<>(Mono.delay(Duration.ofSeconds(5)).map(l -> "late"))
+                    .withDeadline(Instant.now().plusMillis(50));
+
+            var mapped = late.map(s -> s + "!");
+            assertThatThrownBy(mapped::get).isInstanceOf(DeadlineExceeded.DeadlineExceededException.class);
+
+            var awaited = late.await();
+            assertThat(awaited.e().get()).isInstanceOf(DeadlineExceeded.class);
+            assertThat(awaited.r().isEmpty()).isTrue();
+
+            var onTime = new MonoResult<>(Mono.just("ok"))
+                    .withDeadline(Instant.now().plusSeconds(5))
+                    .await();
+            assertThat(onTime.r().get()).isEqualTo("ok");
+
+            assertThat(BlockingCalls.counts().keySet())
+                    .anyMatch(callSite -> callSite.startsWith(ResultTest.class.getName()));
+
+            var result = Result.<String, SingleError>ok(Mono.delay(Duration.ofSeconds(5)).map(l -> "late"))
+                    .withDeadline(Instant.now().plusMillis(50));
+            assertThatThrownBy(result::unwrap).isInstanceOf(DeadlineExceeded.DeadlineExceededException.class);
+        } finally {
+            BlockingCalls.setEnabled(false);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testForkAll() {
+        List<Supplier<Result<Integer, SingleError>>> tasks = IntStream.range(0, 10)
+                .<Supplier<Result<Integer, SingleError>>>mapToObj(i -> () -> Result.ok(i))
+                .toList();
+        assertThat(Result.forkAll(tasks).block())
+                .containsExactlyElementsOf(IntStream.range(0, 10).boxed().toList());
+
+        List<Supplier<Result<Integer, SingleError>>> failing = List.of(
+                () -> Result.err(SingleError.fromMessage("first")),
+                () -> Result.err(SingleError.fromMessage("second")),
+                () -> Result.ok(1));
+        var collected = assertThrows(
+                ExecutionException.class,
+                Result.forkAll(failing, ForkAll.Policy.COLLECT_ALL_ERRORS, null)::block);
+        assertThat(((ForkAll.ForkAllException) collected.getCause()).error().errors()).hasSize(2);
+
+        var first = assertThrows(
+                ExecutionException.class,
+                Result.forkAll(failing, ForkAll.Policy.SHUTDOWN_ON_FIRST_ERROR, null)::block);
+        assertThat(((ForkAll.ForkAllException) first.getCause()).error().errors()).hasSize(1);
+
+        List<Supplier<Result<Integer, SingleError>>> slow = List.of(
+                () -> Result.ok(1),
+                () -> {
+                    LockSupport.parkNanos(Duration.ofSeconds(5).toNanos());
+                    return Result.ok(2);
+                });
+        var timedOut = Result.forkAll(slow, ForkAll.Policy.SHUTDOWN_ON_FIRST_ERROR, Instant.now().plusMillis(50))
+                .await();
+        assertThat(timedOut.e().get()).isInstanceOf(DeadlineExceeded.class);
+    }
+
+    @Test
+    public void testCancel() {
+        var upstreamCancelled = new AtomicBoolean(false);
+        var source = new MonoResult<>(Mono.delay(Duration.ofSeconds(5)).doOnCancel(() -> upstreamCancelled.set(true)));
+        var mapped = (IAsyncResultItem<Long>) source.map(l -> l + 1);
+
+        var error = new AtomicReference<Throwable>();
+        mapped.flux().subscribe(l -> {}, error::set);
+
+        assertThat(mapped.cancel()).isTrue();
+        assertThat(mapped.cancel()).isFalse();
+        assertThat(upstreamCancelled).isTrue();
+        assertThat(error.get()).isInstanceOf(CancellationException.class);
+        assertThat(source.isCancelled()).isTrue();
+        assertThatThrownBy(source::block).isInstanceOf(CancellationException.class);
+
+        var unrelated = new CompletableFuture<String>();
+        var held = new CompletableFutureResult<>(unrelated).map(s -> s + "!");
+        ClosableResult.closeAllOpenResources();
+        assertThat(unrelated.isCancelled()).isFalse();
+        assertThat(held).isNotNull();
+
+        var scope = new Cancellation();
+        var future = new CompletableFuture<String>();
+        new CompletableFutureResult<>(future, new AtomicBoolean(false), null, scope).map(s -> s + "!");
+        var mono = new MonoResult<>(Mono.<String>never(), new AtomicBoolean(false), null, scope);
+        scope.cancel();
+        assertThat(future.isCancelled()).isTrue();
+        assertThatThrownBy(mono::block).isInstanceOf(CancellationException.class);
+        assertThat(new CompletableFutureResult<>(future, new AtomicBoolean(false), null, null).isCancelled()).isFalse();
+    }
+
+    @Test
+    public void collectedAsyncResultIsCancelledUnlessConsumed() throws InterruptedException {
+        var abandoned = new CompletableFuture<String>();
+        var consumed = new CompletableFuture<String>();
+        abandon(abandoned);
+        var mono = consume(consumed);
+
+        for (int i = 0; i < 50 && !abandoned.isCancelled(); i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        assertThat(abandoned.isCancelled()).isTrue();
+        assertThat(consumed.isCancelled()).isFalse();
+        consumed.complete("kept");
+        assertThat(mono.block()).isEqualTo("kept!");
+    }
+
+    private static void abandon(CompletableFuture<String> future) {
+        new CompletableFutureResult<>(future).map(s -> s + "!");
+    }
+
+    private static Mono<String> consume(CompletableFuture<String> future) {
+        return new CompletableFutureResult<>(future).map(s -> s + "!").firstMono();
+    }
+
+    @Test
+    public void collectedTryFromResourceIsReclaimedUnlessHandedOut() throws Exception {
+        var abandoned = new AtomicBoolean();
+        var gotten = new AtomicBoolean();
+        var peeked = new AtomicBoolean();
+        long reclaimed = ClosableResult.reclaimedResources();
+
+        abandonTryFrom(abandoned);
+        var fromGet = getTryFrom(gotten);
+        var fromPeek = peekTryFrom(peeked);
+
+        for (int i = 0; i < 50 && !abandoned.get(); i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        System.gc();
+        Thread.sleep(200);
+
+        assertThat(abandoned).isTrue();
+        assertThat(ClosableResult.reclaimedResources()).isGreaterThan(reclaimed);
+        assertThat(gotten).isFalse();
+        assertThat(peeked).isFalse();
+
+        fromGet.close();
+        fromPeek.close();
+        assertThat(gotten).isTrue();
+        assertThat(peeked).isTrue();
+    }
+
+    private static RuntimeException failed(String message) {
+        return new RuntimeException(message);
+    }
+
+    private static AutoCloseable closingInto(AtomicBoolean closed) {
+        return () -> closed.set(true);
+    }
+
+    private static void abandonTryFrom(AtomicBoolean closed) {
+        Result.<AutoCloseable, SingleError>tryFrom(() -> closingInto(closed), () -> null);
+    }
+
+    private static AutoCloseable getTryFrom(AtomicBoolean closed) {
+        return Result.<AutoCloseable, SingleError>tryFrom(() -> closingInto(closed), () -> null)
+                .r().get();
+    }
+
+    private static AutoCloseable peekTryFrom(AtomicBoolean closed) {
+        var peeked = new AtomicReference<AutoCloseable>();
+        Result.<AutoCloseable, SingleError>tryFrom(() -> closingInto(closed), () -> null)
+                .peek(peeked::set);
+        return peeked.get();
+    }
+
+    @Test
+    public void testClosableLeaks() {
+        var monitor = new ClosableMonitor();
+        monitor.setLeakSampleRate(1);
+        AutoCloseable first = () -> {};
+        AutoCloseable second = () -> {};
+        monitor.onInitialize(() -> first);
+        monitor.onInitialize(() -> second);
+        monitor.onInitialize(() -> first);
+
+        assertThat(monitor.leaks(Duration.ZERO)).hasSize(2)
+                .allSatisfy(l -> assertThat(l.allocationSite()).isNotNull());
+        assertThat(monitor.leaks(Duration.ofDays(1))).isEmpty();
+
+        monitor.registerClosed(first);
+        monitor.afterClose(() -> second);
+        assertThat(monitor.hasOpenResources()).isFalse();
+    }
+
 }
@@ -1,12 +1,20 @@
 package com.hayden.utilitymodule.result;
 
+import com.hayden.utilitymodule.result.async.FluxResult;
 import com.hayden.utilitymodule.result.res_support.many.stream.StreamResult;
+import com.hayden.utilitymodule.result.res_support.many.stream.StreamResultOptions;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class StreamResultTest {
     record TestErr() {}
@@ -206,4 +214,68 @@ public class StreamResultTest {
         assertThat(r.size()).isNotZero();
     }
 
+    @Test
+    public void toFluxResultHonoursDemand() {
+        var pulled = new AtomicInteger();
+        var streamResult = new StreamResult<>(
+                IntStream.range(0, 1_000)
+                        .peek(i -> pulled.incrementAndGet())
+                        .mapToObj(i -> i == 2 ? Result.<Integer, String>err("err") : Result.<Integer, String>ok(i)),
+                StreamResultOptions.builder().maxSize(10).build());
+
+        var flux = streamResult.toFluxResult().flux();
+        var emitted = flux
+                .take(3)
+                .collectList()
+                .block();
+
+        assertThat(emitted).hasSize(3);
+        assertThat(pulled.get()).isLessThanOrEqualTo(10);
+        assertThat(streamResult.hasAnyResult()).isTrue();
+        assertThat(streamResult.hasAnyError()).isTrue();
+        assertThat(streamResult.first().r().get()).isEqualTo(0);
+
+        assertThatThrownBy(() -> flux.collectList().block()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(streamResult::r).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void asyncStreamKeepsEncounterOrderWithinMaxInFlight() {
+        var running = new AtomicInteger();
+        var peak = new AtomicInteger();
+        var streamResult = new StreamResult<>(
+                IntStream.range(0, 50).mapToObj(Result::<Integer, String>ok),
+                StreamResultOptions.builder().isAsync(true).maxInFlight(3).build());
+
+        streamResult.forEach(r -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2));
+            running.decrementAndGet();
+        });
+
+        assertThat(peak.get()).isBetween(1, 3);
+        assertThat(streamResult.toList().results()).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+    }
+
+    @Test
+    public void asyncStreamRethrowsTheFailureOfAnElement() {
+        var streamResult = new StreamResult<>(
+                IntStream.range(0, 10).mapToObj(Result::<Integer, String>ok),
+                StreamResultOptions.builder().isAsync(true).maxInFlight(2).build());
+
+        assertThatThrownBy(() -> streamResult.forEach(r -> {
+            if (r.r().get() == 5)
+                throw new IllegalArgumentException("five");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("five");
+    }
+
+    @Test
+    public void toStreamResult() {
+        var found = new FluxResult<>(Flux.range(0, 100))
+                .<String>toStreamResult(StreamResultOptions.builder().maxSize(10).build())
+                .toList();
+
+        assertThat(found).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+    }
+
 }
@@ -0,0 +1,90 @@
+package com.hayden.utilitymodule.result.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultSchedulersTest {
+
+    @AfterEach
+    public void restoreVirtualThreads() {
+        ResultSchedulers.useVirtualThreads();
+    }
+
+    @Test
+    public void swapsTheExecutorAndScheduler() throws Exception {
+        ResultSchedulers.useVirtualThreads();
+        assertThat(ResultSchedulers.executor().submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(schedulerThread().isVirtual()).isTrue();
+
+        ResultSchedulers.useBoundedElastic();
+        assertThat(ResultSchedulers.executor().submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS))
+                .startsWith("result-bounded-elastic-");
+        assertThat(schedulerThread().getName()).startsWith("result-bounded-elastic-");
+
+        try (var custom = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("custom").factory())) {
+            ResultSchedulers.use(custom);
+            assertThat(ResultSchedulers.executor().submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS))
+                    .isEqualTo("custom");
+            assertThat(schedulerThread().getName()).isEqualTo("custom");
+            ResultSchedulers.useVirtualThreads();
+        }
+    }
+
+    @Test
+    public void shutsDownOnlyOwnedExecutors() {
+        ResultSchedulers.useBoundedElastic();
+        var owned = ResultSchedulers.executor();
+        ResultSchedulers.useVirtualThreads();
+        assertThat(owned.isShutdown()).isTrue();
+
+        try (var custom = Executors.newSingleThreadExecutor()) {
+            ResultSchedulers.use(custom);
+            ResultSchedulers.useVirtualThreads();
+            assertThat(custom.isShutdown()).isFalse();
+        }
+    }
+
+    @Test
+    public void countsQueuedAndActiveTasks() throws Exception {
+        try (var single = Executors.newSingleThreadExecutor()) {
+            ResultSchedulers.use(single);
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var running = ResultSchedulers.executor().submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            });
+            var waiting = ResultSchedulers.executor().submit(() -> null);
+
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(ResultSchedulers.activeTasks()).isOne();
+            assertThat(ResultSchedulers.queuedTasks()).isOne();
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            waiting.get(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 50 && ResultSchedulers.activeTasks() > 0; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(ResultSchedulers.activeTasks()).isZero();
+            assertThat(ResultSchedulers.queuedTasks()).isZero();
+            ResultSchedulers.useVirtualThreads();
+        }
+    }
+
+    private static Thread schedulerThread() {
+        return Mono.fromCallable(Thread::currentThread)
+                .subscribeOn(ResultSchedulers.scheduler())
+                .block(Duration.ofSeconds(5));
+    }
+
+}
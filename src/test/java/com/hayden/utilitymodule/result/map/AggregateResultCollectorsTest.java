@@ -3,12 +3,15 @@ package com.hayden.utilitymodule.result.map;
 import com.google.common.collect.Sets;
 import com.hayden.utilitymodule.result.Result;
 import com.hayden.utilitymodule.result.ResultTestModel;
+import com.hayden.utilitymodule.result.error.SingleError;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,9 +30,9 @@ class AggregateResultCollectorsTest {
 
         for (var c : combinations) {
             var collected = c.stream().collect(
-                    ResultCollectors.from(
-                            new ResultTestModel.TestRes(new HashSet<>()),
-                            new ResultTestModel.TestAgg(new HashSet<>()),
+                    ResultCollectors.toResult(
+                            () -> new ResultTestModel.TestRes(new HashSet<>()),
+                            () -> new ResultTestModel.TestAgg(new HashSet<>()),
                             ab -> ab.one().toOptional().map(o -> new ResultTestModel.TestRes(Set.of(o))),
                             b -> {
                                 if (b.isError()) {
@@ -63,7 +66,7 @@ class AggregateResultCollectorsTest {
 
         for (var c : combinations) {
             var all = Result.all(c);
-            var collected = c.stream().collect(ResultCollectors.from(new ResultTestModel.TestRes(new HashSet<>()), new ResultTestModel.TestAgg(new HashSet<>())));
+            var collected = c.stream().collect(ResultCollectors.toResult(() -> new ResultTestModel.TestRes(new HashSet<>()), () -> new ResultTestModel.TestAgg(new HashSet<>())));
             assertThat(all.r().get().values()).hasSameElementsAs(List.of("hello", "hello1", "hello2"));
             assertThat(all.e().get().getMessages()).hasSameElementsAs(List.of("goodbye1", "goodbye2", "goodbye3"));
             assertThat(collected.r().get().values()).hasSameElementsAs(List.of("hello", "hello1", "hello2"));
@@ -72,7 +75,7 @@ class AggregateResultCollectorsTest {
         singleMessage = ResultTestModel.singleMessage();
 
         Result<ResultTestModel.TestRes, ResultTestModel.TestAgg> all3 = Result.all(List.of(singleMessage));
-        var collected3 = Stream.of(singleMessage).collect(AggregateResultCollectors.AggregateResultCollector.fromValues(new ResultTestModel.TestRes(new HashSet<>()), new ResultTestModel.TestAgg(new HashSet<>())));
+        var collected3 = Stream.of(singleMessage).collect(AggregateResultCollectors.AggregateResultCollector.toResult(() -> new ResultTestModel.TestRes(new HashSet<>()), () -> new ResultTestModel.TestAgg(new HashSet<>())));
 
         assertAll(
                 () -> assertThat(all3.r().get().values()).hasSameElementsAs(List.of("hello")),
@@ -83,7 +86,7 @@ class AggregateResultCollectorsTest {
         );
 
         var all2 = Result.all(List.<Result<ResultTestModel.TestRes, ResultTestModel.TestAgg>>of());
-        var collected2 = Stream.<Result<ResultTestModel.TestRes, ResultTestModel.TestAgg>>of().collect(AggregateResultCollectors.AggregateResultCollector.fromValues(new ResultTestModel.TestRes(new HashSet<>()), new ResultTestModel.TestAgg(new HashSet<>())));
+        var collected2 = Stream.<Result<ResultTestModel.TestRes, ResultTestModel.TestAgg>>of().collect(AggregateResultCollectors.AggregateResultCollector.toResult(() -> new ResultTestModel.TestRes(new HashSet<>()), () -> new ResultTestModel.TestAgg(new HashSet<>())));
 
         assertAll(
                 () -> assertThat(all2).isNull(),
@@ -94,7 +97,7 @@ class AggregateResultCollectorsTest {
         errorAndMessage2 = ResultTestModel.errorAndMessage2();
 
         Result<ResultTestModel.TestRes, ResultTestModel.TestAgg> all4 = Result.all(List.of(errorAndMessage2));
-        Result<ResultTestModel.TestRes, ResultTestModel.TestAgg> collected4 = Stream.of(errorAndMessage2).collect(AggregateResultCollectors.AggregateResultCollector.fromValues(new ResultTestModel.TestRes(new HashSet<>()), new ResultTestModel.TestAgg(new HashSet<>())));
+        Result<ResultTestModel.TestRes, ResultTestModel.TestAgg> collected4 = Stream.of(errorAndMessage2).collect(AggregateResultCollectors.AggregateResultCollector.toResult(() -> new ResultTestModel.TestRes(new HashSet<>()), () -> new ResultTestModel.TestAgg(new HashSet<>())));
 
         assertAll(
                 () -> assertThat(all4.r().get().values()).hasSameElementsAs(List.of("hello2")),
@@ -106,7 +109,7 @@ class AggregateResultCollectorsTest {
         singleError = ResultTestModel.withSingleError();
 
         Result<ResultTestModel.TestRes, ResultTestModel.TestAgg> all5 = Result.all(List.of(singleError));
-        Result<ResultTestModel.TestRes, ResultTestModel.TestAgg> collected5 = Stream.of(singleError).collect(AggregateResultCollectors.AggregateResultCollector.fromValues(new ResultTestModel.TestRes(new HashSet<>()), new ResultTestModel.TestAgg(new HashSet<>())));
+        Result<ResultTestModel.TestRes, ResultTestModel.TestAgg> collected5 = Stream.of(singleError).collect(AggregateResultCollectors.AggregateResultCollector.toResult(() -> new ResultTestModel.TestRes(new HashSet<>()), () -> new ResultTestModel.TestAgg(new HashSet<>())));
 
         assertAll(
                 () -> assertThat(all5.r().isEmpty()).isTrue(),
@@ -136,4 +139,57 @@ class AggregateResultCollectorsTest {
     }
 
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void fromValuesAccumulatesIntoTheGivenAggregates() {
+        var res = new ResultTestModel.TestRes(new HashSet<>());
+        var agg = new ResultTestModel.TestAgg(new HashSet<>());
+        var collected = Stream.of(ResultTestModel.errorAndMessage2()).collect(ResultCollectors.from(res, agg));
+
+        assertAll(
+                () -> assertThat(collected.r().get()).isSameAs(res),
+                () -> assertThat(collected.e().get()).isSameAs(agg),
+                () -> assertThat(res.values()).hasSameElementsAs(List.of("hello2")),
+                () -> assertThat(agg.getMessages()).hasSameElementsAs(List.of("goodbye3"))
+        );
+    }
+
+    @Test
+    void parallelAggregate() {
+        var results = IntStream.range(0, 10_000)
+                .<Result<ResultTestModel.TestRes, ResultTestModel.TestAgg>>mapToObj(i -> i % 10 == 0
+                        ? Result.from(new ResultTestModel.TestRes(Sets.newHashSet("hello" + i)), new ResultTestModel.TestAgg(Sets.newHashSet(SingleError.fromMessage("goodbye" + i))))
+                        : Result.ok(new ResultTestModel.TestRes(Sets.newHashSet("hello" + i))))
+                .toList();
+
+        var collected = results.parallelStream()
+                .collect(AggregateResultCollectors.AggregateResultCollector.toResult(
+                        () -> new ResultTestModel.TestRes(new HashSet<>()),
+                        () -> new ResultTestModel.TestAgg(new HashSet<>())));
+
+        assertAll(
+                () -> assertThat(collected.r().get().values()).hasSize(10_000),
+                () -> assertThat(collected.e().get().getMessages()).hasSize(1_000)
+        );
+    }
+
+    @Test
+    void allParallel() {
+        Supplier<List<Result<ResultTestModel.TestRes, ResultTestModel.TestAgg>>> results = () -> IntStream.range(0, 10_000)
+                .<Result<ResultTestModel.TestRes, ResultTestModel.TestAgg>>mapToObj(i -> i % 10 == 0
+                        ? Result.err(new ResultTestModel.TestAgg(Sets.newHashSet(SingleError.fromMessage("goodbye" + i))))
+                        : Result.ok(new ResultTestModel.TestRes(Sets.newHashSet("hello" + i))))
+                .toList();
+
+        var all = Result.all(results.get());
+        var allParallel = Result.allParallel(results.get());
+
+        assertAll(
+                () -> assertThat(allParallel.r().get().values()).hasSize(9_000),
+                () -> assertThat(allParallel.r().get().values()).isEqualTo(all.r().get().values()),
+                () -> assertThat(allParallel.e().get().getMessages()).hasSize(1_000),
+                () -> assertThat(allParallel.e().get().getMessages()).isEqualTo(all.e().get().getMessages())
+        );
+    }
+
 }
\ No newline at end of file
@@ -24,7 +24,7 @@ public class ParameterizedResultCollectorsTest {
                 .map(Object::toString)
                 .map(Result::<String, ResultTestModel.TestOneErr>ok)
                 .flatMap(toe -> Stream.<Result<String, ResultTestModel.TestOneErr>>of(toe, Result.err(new ResultTestModel.TestOneErr("fail"))))
-                .collect(ResultCollectors.from(new ResultTestModel.TestOneAggResp(new ArrayList<>()), new ResultTestModel.TestOneAggErr(new HashSet<>())));
+                .collect(ResultCollectors.toParamResult(() -> new ResultTestModel.TestOneAggResp(new ArrayList<>()), () -> new ResultTestModel.TestOneAggErr(new HashSet<>())));
 
         assertEquals(100, found.r().get().all().size());
         assertEquals(1, found.e().get().allItems().size());
@@ -34,7 +34,7 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundCollected.e().get().size());
 
         var foundNone = Stream.<Result<String, ResultTestModel.TestOneErr>>empty()
-                .collect(ResultCollectors.from(new ResultTestModel.TestOneAggResp(new ArrayList<>()), new ResultTestModel.TestOneAggErr(new HashSet<>())));
+                .collect(ResultCollectors.toParamResult(() -> new ResultTestModel.TestOneAggResp(new ArrayList<>()), () -> new ResultTestModel.TestOneAggErr(new HashSet<>())));
         assertEquals(0, foundNone.r().get().all().size());
         assertEquals(0, foundNone.e().get().allItems().size());
 
@@ -43,7 +43,7 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundNoneResCollected.e().get().size());
 
         var foundOneRes = Stream.of(Result.<String, ResultTestModel.TestOneErr>ok("hello"))
-                .collect(ResultCollectors.from(new ResultTestModel.TestOneAggResp(new ArrayList<>()), new ResultTestModel.TestOneAggErr(new HashSet<>())));
+                .collect(ResultCollectors.toParamResult(() -> new ResultTestModel.TestOneAggResp(new ArrayList<>()), () -> new ResultTestModel.TestOneAggErr(new HashSet<>())));
         assertEquals(1, foundOneRes.r().get().all().size());
         assertEquals(0, foundOneRes.e().get().allItems().size());
 
@@ -52,7 +52,7 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundOneResCollected.e().get().size());
 
         var foundOneErr = Stream.of(Result.<String, ResultTestModel.TestOneErr>err(new ResultTestModel.TestOneErr("fail")))
-                .collect(ResultCollectors.from(new ResultTestModel.TestOneAggResp(new ArrayList<>()), new ResultTestModel.TestOneAggErr(new HashSet<>())));
+                .collect(ResultCollectors.toParamResult(() -> new ResultTestModel.TestOneAggResp(new ArrayList<>()), () -> new ResultTestModel.TestOneAggErr(new HashSet<>())));
         assertEquals(0, foundOneErr.r().get().all().size());
         assertEquals(1, foundOneErr.e().get().allItems().size());
 
@@ -67,9 +67,9 @@ public class ParameterizedResultCollectorsTest {
                 .boxed()
                 .map(Object::toString)
                 .map(Result::<String, ResultTestModel.TestOneErr>ok)
-                .collect(ResultCollectors.from(
-                        new ResultTestModel.TestOneAggResp(new ArrayList<>()),
-                        new ResultTestModel.TestOneAggErr(new HashSet<>()),
+                .collect(ResultCollectors.toParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>()),
                         res -> Optional.of(""),
                         err -> Optional.of(new ResultTestModel.TestOneErr("fail"))
                 ));
@@ -82,9 +82,9 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundCollected.e().get().size());
 
         var foundNone = Stream.<Result<String, ResultTestModel.TestOneErr>>empty()
-                .collect(ResultCollectors.from(
-                        new ResultTestModel.TestOneAggResp(new ArrayList<>()),
-                        new ResultTestModel.TestOneAggErr(new HashSet<>()),
+                .collect(ResultCollectors.toParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>()),
                         res -> Optional.empty(),
                         err -> Optional.empty()
                 ));
@@ -96,9 +96,9 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundNoneResCollected.e().get().size());
 
         var foundOneRes = Stream.of(Result.<String, ResultTestModel.TestOneErr>ok("hello"))
-                .collect(ResultCollectors.from(
-                        new ResultTestModel.TestOneAggResp(new ArrayList<>()),
-                        new ResultTestModel.TestOneAggErr(new HashSet<>()),
+                .collect(ResultCollectors.toParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>()),
                         res -> Optional.of(""),
                         err -> Optional.empty()
                 ));
@@ -110,9 +110,9 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundOneResCollected.e().get().size());
 
         var foundOneErr = Stream.of(Result.<String, ResultTestModel.TestOneErr>err(new ResultTestModel.TestOneErr("fail")))
-                .collect(ResultCollectors.from(
-                        new ResultTestModel.TestOneAggResp(new ArrayList<>()),
-                        new ResultTestModel.TestOneAggErr(new HashSet<>()),
+                .collect(ResultCollectors.toParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>()),
                         res -> Optional.empty(),
                         err -> Optional.of(new ResultTestModel.TestOneErr("fail"))
                 ));
@@ -130,9 +130,9 @@ public class ParameterizedResultCollectorsTest {
                 .boxed()
                 .map(Object::toString)
                 .map(Result::<String, ResultTestModel.TestOneErr>ok)
-                .collect(ResultCollectors.aggParamFrom(
-                        new ResultTestModel.TestOneAggResp(new ArrayList<>()),
-                        new ResultTestModel.TestOneAggErr(new HashSet<>()),
+                .collect(ResultCollectors.toAggParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>()),
                         err -> Optional.of(new ResultTestModel.TestOneAggResp(List.of(""))),
                         res -> Optional.of(new ResultTestModel.TestOneAggErr(Sets.newHashSet(new ResultTestModel.TestOneErr("hello"))))
                 ));
@@ -145,9 +145,9 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundCollected.e().get().size());
 
         var foundNone = Stream.<Result<String, ResultTestModel.TestOneErr>>empty()
-                .collect(ResultCollectors.aggParamFrom(
-                        new ResultTestModel.TestOneAggResp(new ArrayList<>()),
-                        new ResultTestModel.TestOneAggErr(new HashSet<>()),
+                .collect(ResultCollectors.toAggParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>()),
                         err -> Optional.of(new ResultTestModel.TestOneAggResp(List.of(""))),
                         res -> Optional.of(new ResultTestModel.TestOneAggErr(Sets.newHashSet(new ResultTestModel.TestOneErr("hello"))))
                 ));
@@ -159,9 +159,9 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundNoneResCollected.e().get().size());
 
         var foundOneRes = Stream.of(Result.<String, ResultTestModel.TestOneErr>ok("hello"))
-                .collect(ResultCollectors.aggParamFrom(
-                        new ResultTestModel.TestOneAggResp(new ArrayList<>()),
-                        new ResultTestModel.TestOneAggErr(new HashSet<>()),
+                .collect(ResultCollectors.toAggParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>()),
                         err -> Optional.of(new ResultTestModel.TestOneAggResp(List.of(""))),
                         res -> Optional.empty())
                 );
@@ -173,9 +173,9 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundOneResCollected.e().get().size());
 
         var foundOneErr = Stream.of(Result.<String, ResultTestModel.TestOneErr>err(new ResultTestModel.TestOneErr("fail")))
-                .collect(ResultCollectors.aggParamFrom(
-                        new ResultTestModel.TestOneAggResp(new ArrayList<>()),
-                        new ResultTestModel.TestOneAggErr(new HashSet<>()),
+                .collect(ResultCollectors.toAggParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>()),
                         err -> Optional.empty(),
                         res -> Optional.of(new ResultTestModel.TestOneAggErr(Sets.newHashSet(new ResultTestModel.TestOneErr("hello"))))
                 ));
@@ -187,4 +187,20 @@ public class ParameterizedResultCollectorsTest {
         assertEquals(1, foundOneCollected.e().get().size());
     }
 
+    @Test
+    public void parallelParamTest() {
+        var found = IntStream.range(0, 10_000)
+                .boxed()
+                .map(Object::toString)
+                .map(Result::<String, ResultTestModel.TestOneErr>ok)
+                .toList()
+                .parallelStream()
+                .collect(ResultCollectors.toParamResult(
+                        () -> new ResultTestModel.TestOneAggResp(new ArrayList<>()),
+                        () -> new ResultTestModel.TestOneAggErr(new HashSet<>())));
+
+        assertEquals(10_000, found.r().get().all().size());
+        assertEquals(0, found.e().get().allItems().size());
+    }
+
 }
\ No newline at end of file
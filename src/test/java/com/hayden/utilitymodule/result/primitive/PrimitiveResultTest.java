@@ -0,0 +1,36 @@
+package com.hayden.utilitymodule.result.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveResultTest {
+
+    @Test
+    public void mapChain() {
+        var res = IntResult.<String>ok(1)
+                .map(i -> i + 1)
+                .flatMap(i -> IntResult.ok(i * 10))
+                .mapToLong(i -> i + 1L);
+
+        assertThat(res.isOk()).isTrue();
+        assertThat(res.get()).isEqualTo(21L);
+        assertThat(res.toResult().get()).isEqualTo(21L);
+    }
+
+    @Test
+    public void errorChain() {
+        var err = IntResult.<String>err("failed");
+
+        assertThat(err.map(i -> i + 1)).isSameAs(err);
+
+        var mapped = err.mapError(String::length)
+                .mapToDouble(i -> i * 2d);
+
+        assertThat(mapped.isErr()).isTrue();
+        assertThat(mapped.error()).contains(6);
+        assertThat(mapped.orElse(-1d)).isEqualTo(-1d);
+        assertThat(mapped.toResult().e().get()).isEqualTo(6);
+    }
+
+}
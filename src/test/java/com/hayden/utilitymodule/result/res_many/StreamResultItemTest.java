@@ -49,6 +49,17 @@ class StreamResultItemTest {
         assertThat(list).hasSameElementsAs(IntStream.range(90, 101).boxed().toList());
     }
 
+    @Test
+    public void testInifiniCacheSoftReferences() {
+        var gen = Stream.iterate(0, s -> s <= 100, s -> s + 1);
+
+        var streamResultItem = new StreamResultItem<>(gen, StreamResultOptions.builder().isInfinite(true).softReferences(true).build());
+
+        var list = streamResultItem.toList();
+
+        assertThat(list).containsExactlyElementsOf(IntStream.rangeClosed(0, 100).boxed().toList());
+    }
+
     @Test
     public void testStreamResultItem() {
         var o = Result.ok("ok")
@@ -0,0 +1,61 @@
+package com.hayden.utilitymodule.result.res_support.many.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedRingBufferTest {
+
+    @Test
+    public void evictsTheOldestFirst() {
+        var buffer = new BoundedRingBuffer<Integer>(3);
+        buffer.add(0);
+        buffer.add(1);
+        assertThat(buffer).containsExactly(0, 1);
+
+        IntStream.range(2, 10).forEach(buffer::add);
+        assertThat(buffer).containsExactly(7, 8, 9);
+        assertThat(buffer.get(0)).isEqualTo(7);
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void concurrentProducersKeepTheLatestWindow() throws InterruptedException {
+        int producers = 8;
+        int perProducer = 10_000;
+        int capacity = 64;
+        var buffer = new BoundedRingBuffer<Long>(capacity);
+        var start = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                executor.submit(() -> {
+                    start.await();
+                    for (long i = 0; i < perProducer; i++) {
+                        buffer.add(producer * perProducer + i);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        List<Long> window = new ArrayList<>(buffer);
+        assertThat(window).hasSize(capacity)
+                .doesNotContainNull();
+        assertThat(new HashSet<>(window)).hasSize(capacity);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            var fromProducer = window.stream().filter(v -> v / perProducer == producer).toList();
+            assertThat(fromProducer).isSorted();
+        }
+    }
+
+}